@@ -15,37 +15,51 @@
  */
 package org.pomo.toasterfx;
 
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.util.Duration;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.common.Archiveable;
+import org.pomo.toasterfx.component.AbstractListToastSupplier;
+import org.pomo.toasterfx.component.JournalToastList;
+import org.pomo.toasterfx.component.RowRemovable;
 import org.pomo.toasterfx.component.SimpleListToastSupplier;
-import org.pomo.toasterfx.model.MultiToast;
-import org.pomo.toasterfx.model.ReferenceType;
-import org.pomo.toasterfx.model.Toast;
-import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.component.ToastJournal;
+import org.pomo.toasterfx.component.ToastSeverityIndex;
+import org.pomo.toasterfx.model.*;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.scalable.ArchiveCompactable;
 import org.pomo.toasterfx.model.scalable.MutableStateToast;
 import org.pomo.toasterfx.util.FXMessages;
 import org.pomo.toasterfx.util.FXUtils;
 
-import java.util.Collection;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 /**
  * <h2>多消息工厂</h2>
  *
  * <p>负责产生“多消息”</p>
+ * <p>可通过archiveCapacity限制归档数量，超出时依据EvictionPolicy分批销毁消息体</p>
+ * <p>非ui线程的封存不会阻塞：消息体先进入无锁队列，再由ui线程批量加入多消息体</p>
+ * <p>启用archiveCompact后，可压缩的消息体以归档记录的形式保存</p>
+ * <p>设置archiveJournal后，消息体写入归档日志后即被销毁，归档在重启后仍然存在</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 15:54:42</p>
- * <p>更新时间：2020-09-27 15:54:42</p>
+ * <p>更新时间：2026-10-18 20:24:10</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -101,10 +115,75 @@ public class MultiToastFactory {
     @NonNull
     private Supplier<? extends MultiToast> multiToastSupplier;
 
+    /**
+     * 归档容量
+     * <p>多消息体中的消息数量超出此值时，依据淘汰策略销毁消息体，默认不限制</p>
+     */
+    @Getter
+    @Setter
+    private int archiveCapacity = Integer.MAX_VALUE;
+
+    /**
+     * 淘汰策略
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private EvictionPolicy evictionPolicy = EvictionPolicy.OLDEST_FIRST;
+
+    /**
+     * 归档存活时间
+     * <p>仅当淘汰策略为TTL时有效</p>
+     */
+    @Getter
+    @Setter
+    private Duration archiveTtl;
+
+    /**
+     * 是否压缩归档
+     * <p>启用后，可压缩的消息体归档时，以{@code ArchivedToast}替代，原消息体随即被销毁</p>
+     */
+    @Getter
+    @Setter
+    private boolean archiveCompact = false;
+
+    /**
+     * 归档日志
+     * <p>为null时，归档只保存在内存中；否则，由列表消息体生成器以日志存储消息集</p>
+     * <p>仅对{@code AbstractListToastSupplier}的子类生效，其生命周期由此工厂管理</p>
+     */
+    @Getter
+    @Setter
+    private ToastJournal archiveJournal;
+
     /**
      * 多消息体
      */
     private MultiToast multiToast;
+
+    /**
+     * 过期归档清理器
+     * <p>仅当淘汰策略为TTL时存在，确保无新归档时，过期消息体仍能被销毁</p>
+     */
+    private Timeline archiveSweeper;
+
+    /**
+     * 待加入多消息体的已封存消息体<br/>
+     * 任意线程写入，只在ui线程中卸载
+     */
+    private final Queue<Toast> pendingArchiveToasts = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 卸载任务 是否已提交<br/>
+     * 确保同一时刻，最多只有一个卸载任务等待ui线程执行
+     */
+    private final AtomicBoolean pendingArchiveScheduled = new AtomicBoolean();
+
+    /**
+     * 严重程度索引
+     * <p>仅当淘汰策略为LOWEST_SEVERITY_FIRST时，挂载于当前多消息体的消息集</p>
+     */
+    private final ToastSeverityIndex severityIndex = new ToastSeverityIndex();
     // endregion
 
     /**
@@ -130,6 +209,43 @@ public class MultiToastFactory {
 
             this.multiToastSupplier = multiToastSupplier;
         }
+
+        if (this.archiveJournal != null) {
+
+            if (this.archiveJournal.getParameter() == null)
+                this.archiveJournal.setParameter(this.service.getDefaultToastParameter());
+
+            this.archiveJournal.initialize();
+
+            if (this.multiToastSupplier instanceof AbstractListToastSupplier) {
+
+                AbstractListToastSupplier listToastSupplier = (AbstractListToastSupplier) this.multiToastSupplier;
+                if (listToastSupplier.getJournal() == null) listToastSupplier.setJournal(this.archiveJournal);
+            }
+        }
+
+        if (this.archiveCapacity <= 0)
+            throw new IllegalArgumentException("archiveCapacity must greater than 0, actual : "
+                    + this.archiveCapacity + ".");
+
+        if (this.evictionPolicy == EvictionPolicy.TTL) {
+
+            Objects.requireNonNull(this.archiveTtl, "archiveTtl must non-null but is null.");
+
+            if (this.archiveTtl.lessThanOrEqualTo(Duration.ZERO) || this.archiveTtl.isIndefinite())
+                throw new IllegalArgumentException("archiveTtl must greater than 0 and finite, actual : "
+                        + this.archiveTtl + ".");
+
+            // 清理周期为TTL的1/4，但不低于1秒
+            Duration interval = this.archiveTtl.divide(4);
+            if (interval.lessThan(Duration.seconds(1))) interval = Duration.seconds(1);
+
+            this.archiveSweeper = new Timeline(new KeyFrame(interval, it -> {
+                if (this.multiToast != null) this.evict(this.multiToast.getToasts());
+            }));
+            this.archiveSweeper.setCycleCount(Timeline.INDEFINITE);
+            this.archiveSweeper.play();
+        }
     }
 
     /**
@@ -150,6 +266,8 @@ public class MultiToastFactory {
     /**
      * <h2>封存</h2>
      * <p>此时的消息还未展示</p>
+     * <p>不会阻塞：返回时，消息体已处于归档状态，但可能尚未加入多消息体</p>
+     * <p>此方法是线程安全的，调用后可立即复用toasts</p>
      *
      * @param toasts 消息体集合
      */
@@ -157,9 +275,50 @@ public class MultiToastFactory {
 
         log.trace("{} messages is archived...", toasts.size());
 
-        toasts.forEach(this::transformArchive);
+        for (Toast toast : toasts) {
 
-        FXUtils.smartLater(() -> this.get().getToasts().addAll(toasts));
+            this.transformArchive(toast);
+
+            this.pendingArchiveToasts.add(this.compact(toast));
+        }
+
+        if (Platform.isFxApplicationThread()) this.drainPendingArchive();
+        else this.schedulePendingArchive();
+    }
+
+    /**
+     * <h2>调度 卸载任务</h2>
+     * <p>尚无卸载任务时，向ui线程提交一个</p>
+     */
+    private void schedulePendingArchive() {
+        if (this.pendingArchiveScheduled.compareAndSet(false, true)) FXUtils.pulseLater(this::drainPendingArchive);
+    }
+
+    /**
+     * <h2>卸载 已封存消息体</h2>
+     * <p>一次性加入多消息体，只产生一次变更事件</p>
+     */
+    private void drainPendingArchive() {
+
+        this.pendingArchiveScheduled.set(false);
+
+        // 已被销毁
+        if (this.multiToastSupplier == null) return;
+
+        List<Toast> toasts = new ArrayList<>();
+
+        Toast toast;
+        while ((toast = this.pendingArchiveToasts.poll()) != null) toasts.add(toast);
+
+        if (toasts.isEmpty()) return;
+
+        ObservableList<Toast> archiveToasts = this.get().getToasts();
+
+        archiveToasts.addAll(toasts);
+
+        this.release(archiveToasts, toasts);
+
+        this.evict(archiveToasts);
     }
 
     /**
@@ -175,7 +334,13 @@ public class MultiToastFactory {
 
         this.doArchive(toast);
 
-        this.get().getToasts().add(toast);
+        ObservableList<Toast> archiveToasts = this.get().getToasts();
+
+        archiveToasts.add(this.compact(toast));
+
+        this.release(archiveToasts, Collections.singletonList(toast));
+
+        this.evict(archiveToasts);
     }
 
     /**
@@ -245,8 +410,9 @@ public class MultiToastFactory {
      */
     private void transformArchive(Toast toast) {
 
-        if (toast.getState() == ToastState.ABLE_SHOW)
-            FXUtils.run(toast, MutableStateToast.class, it -> it.setToastState(ToastState.ARCHIVING));
+        // 以CAS修改，避免与ui线程中的展示竞争
+        FXUtils.run(toast, MutableStateToast.class,
+                it -> it.compareAndSetToastState(ToastState.ABLE_SHOW, ToastState.ARCHIVING));
 
         this.doArchive(toast);
     }
@@ -286,16 +452,155 @@ public class MultiToastFactory {
         FXUtils.run(toast, MutableStateToast.class, it -> it.setToastState(ToastState.ARCHIVE));
     }
 
+    /**
+     * <h2>压缩</h2>
+     * <p>启用了归档压缩 且 消息体可压缩时，销毁原消息体，以归档记录替代</p>
+     *
+     * @param toast 已归档的消息体
+     * @return 归档记录 或 原消息体
+     */
+    private Toast compact(Toast toast) {
+
+        // 写入日志后即被销毁，无需压缩
+        if (!this.archiveCompact || this.archiveJournal != null) return toast;
+
+        ArchivedToast archivedToast = FXUtils.call(toast, ArchiveCompactable.class, ArchiveCompactable::compact)
+                .orElse(null);
+
+        if (archivedToast == null) return toast;
+
+        // 销毁原消息体，释放其参数、回调、Node等
+        this.toastHelper.destroy(toast);
+
+        return archivedToast;
+    }
+
+    /**
+     * <h2>释放</h2>
+     * <p>消息集为日志消息列表时，已写入日志的消息体不再被引用，将其销毁</p>
+     *
+     * @param archiveToasts 归档消息体集合
+     * @param toasts        刚加入的消息体
+     */
+    private void release(ObservableList<Toast> archiveToasts, Collection<Toast> toasts) {
+
+        if (!(archiveToasts instanceof JournalToastList)) return;
+
+        for (Toast toast : toasts) if (toast.getState() != ToastState.DESTROY) this.toastHelper.destroy(toast);
+    }
+
+    /**
+     * <h2>淘汰</h2>
+     * <p>移出超出容量（或已过期）的消息体，并一次性销毁</p>
+     * <p>按位置移除，而非按相等性：列式存储中的归档记录基于值相等，相同的记录可能有多条</p>
+     * <p>只读取被淘汰的行（及其附近），不遍历整个消息集：</p>
+     * <p>1. 最早优先：移除首部超出的行</p>
+     * <p>2. 存活时间：归档顺序近似于创建顺序，只检查首部的行是否过期，再按最早优先移除超出的行</p>
+     * <p>3. 最低严重程度优先：由严重程度索引确定各级配额，从扫描提示处查找</p>
+     *
+     * @param toasts 归档消息体集合
+     */
+    private void evict(ObservableList<Toast> toasts) {
+
+        FXUtils.checkFxUserThread();
+
+        int size = toasts.size();
+
+        BitSet evictedRows;
+
+        if (this.evictionPolicy == EvictionPolicy.LOWEST_SEVERITY_FIRST) {
+
+            if (!this.severityIndex.isAttached(toasts)) this.severityIndex.attach(toasts);
+
+            int overflow = size - this.archiveCapacity;
+
+            if (overflow <= 0) return;
+
+            evictedRows = this.severityIndex.lowest(overflow);
+
+        } else {
+
+            int evictedSize = Math.max(0, size - this.archiveCapacity);
+
+            if (this.evictionPolicy == EvictionPolicy.TTL) {
+
+                long deadline = System.currentTimeMillis() - (long) this.archiveTtl.toMillis();
+
+                while (evictedSize < size && toasts.get(evictedSize).getCreateTime() < deadline) evictedSize++;
+            }
+
+            if (evictedSize == 0) return;
+
+            evictedRows = new BitSet(evictedSize);
+            evictedRows.set(0, evictedSize);
+        }
+
+        if (evictedRows.isEmpty()) return;
+
+        List<Toast> evictedToasts = new ArrayList<>(evictedRows.cardinality());
+        evictedRows.stream().forEach(it -> evictedToasts.add(toasts.get(it)));
+
+        this.removeRows(toasts, evictedRows);
+
+        evictedToasts.removeIf(it -> it.getState() == ToastState.DESTROY);
+        this.toastHelper.destroy(evictedToasts);
+
+        log.debug("{} archived toasts are evicted by {}.", evictedToasts.size(), this.evictionPolicy);
+    }
+
+    /**
+     * <h2>按位置移除</h2>
+     * <p>支持按下标批量移除的列表，只会产生一次变更事件；否则，自后向前逐段移除</p>
+     *
+     * @param toasts 归档消息体集合
+     * @param rows   待移除的下标
+     */
+    private void removeRows(ObservableList<Toast> toasts, BitSet rows) {
+
+        if (toasts instanceof RowRemovable) {
+
+            ((RowRemovable) toasts).removeRows(rows);
+            return;
+        }
+
+        int end = rows.length();
+
+        while ((end = rows.previousSetBit(end - 1)) >= 0) {
+
+            int from = rows.previousClearBit(end) + 1;
+
+            toasts.remove(from, end + 1);
+
+            end = from;
+        }
+    }
+
     /**
      * <h2>销毁</h2>
      */
     void destroy() {
 
+        if (this.archiveSweeper != null) {
+
+            this.archiveSweeper.stop();
+            this.archiveSweeper.getKeyFrames().clear();
+            this.archiveSweeper = null;
+        }
+
+        this.severityIndex.detach();
+
         if (this.multiToast != null)
             this.toastHelper.destroy(this.multiToast);// 会触发监听置空自身
 
+        // 尚未加入多消息体的，直接销毁
+        List<Toast> pendingArchiveToasts = new ArrayList<>(this.pendingArchiveToasts);
+        this.pendingArchiveToasts.clear();
+        this.toastHelper.destroy(pendingArchiveToasts);
+
         this.multiToastSupplier = null;
 
+        if (this.archiveJournal != null) this.archiveJournal.destroy();
+
         log.trace("MultiToastFactory is destroyed.");
     }
 }
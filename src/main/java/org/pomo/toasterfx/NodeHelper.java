@@ -15,7 +15,12 @@
  */
 package org.pomo.toasterfx;
 
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.util.Duration;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -23,12 +28,15 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.common.Archiveable;
 import org.pomo.toasterfx.common.Destroyable;
+import org.pomo.toasterfx.common.Reusable;
 import org.pomo.toasterfx.exception.NotFoundNodeCreateMethodException;
 import org.pomo.toasterfx.model.ReferenceType;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.scalable.NodeCreateable;
 import org.pomo.toasterfx.model.scalable.NodeDestroyable;
 import org.pomo.toasterfx.model.scalable.NodeRecyclable;
+import org.pomo.toasterfx.model.scalable.NodeReusable;
+import org.pomo.toasterfx.model.scalable.NodeSlotSupport;
 import org.pomo.toasterfx.util.FXUtils;
 
 import java.lang.ref.Reference;
@@ -36,15 +44,24 @@ import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 /**
  * <h2>Node 助理</h2>
  *
  * <p>负责维护Node的引用</p>
+ * <p>Node存放于消息体的槽位中，强/弱/软引用以槽位中值的类型区分，存取时无需加锁与哈希查找</p>
+ * <p>未实现NodeSlotSupport的消息体，退化为并发映射</p>
+ * <p>归档为LRU的Node，按节点数、估算字节数预算保持强引用，超出时销毁最久未使用的</p>
+ * <p>存在弱/软引用时，在ui线程中定时批量取出被GC回收的引用，并回调NodeRecyclable，不使用独立线程</p>
+ * <p>可复用Node池容量大于0时，关闭后的可复用Node会按类型回收，供同类消息体复用</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 15:58:42</p>
- * <p>更新时间：2020-09-27 15:58:42</p>
+ * <p>更新时间：2026-10-18 21:04:18</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -52,6 +69,16 @@ import java.util.*;
 @Slf4j
 public class NodeHelper {
 
+    /**
+     * 场景图中，每个节点的估算字节数
+     */
+    private static final long ESTIMATED_BYTES_PER_NODE = 1024;
+
+    /**
+     * 引用队列 轮询间隔
+     */
+    private static final Duration REFERENCE_POLL_INTERVAL = Duration.millis(500);
+
     // region {成员变量}
     /**
      * 消息体 助理
@@ -67,26 +94,87 @@ public class NodeHelper {
     private ReferenceType referenceType = ReferenceType.DESTROY;
 
     /**
-     * 强引用 映射<br/>
-     * 线程安全
+     * 可复用Node池 容量（每种Node类型）<br/>
+     * 为0时，不复用Node
+     */
+    @Getter
+    @Setter
+    private int reusePoolCapacity = 0;
+
+    /**
+     * LRU 容量（Node数量）
+     */
+    @Getter
+    @Setter
+    private int lruCapacity = 32;
+
+    /**
+     * LRU 估算字节预算<br/>
+     * 为0时，不按字节限制
+     */
+    @Getter
+    @Setter
+    private long lruByteBudget = 0;
+
+    /**
+     * Node 字节估算器<br/>
+     * 仅当LRU字节预算大于0时使用，默认按场景图中的节点数估算
+     */
+    @Setter
+    @NonNull
+    private ToLongFunction<Node> nodeSizeEstimator = NodeHelper::estimateNodeSize;
+
+    /**
+     * LRU 哨兵，其后为最近使用的，其前为最久未使用的<br/>
+     * 以自身为锁
+     */
+    private final LruEntry lru = new LruEntry(null, null, 0);
+
+    /**
+     * LRU 中的Node数量
+     */
+    @Getter
+    private int lruSize;
+
+    /**
+     * LRU 中的估算字节数
+     */
+    @Getter
+    private long lruBytes;
+
+    /**
+     * 槽位 映射<br/>
+     * 仅用于未实现NodeSlotSupport的消息体，值为Node 或 Reference，线程安全
      */
-    private Map<Toast, Node> map;
+    private Map<Toast, Object> slotMap;
 
     /**
-     * 引用 映射<br/>
+     * 可复用Node池 <Node类型，已回收的Node><br/>
      * 线程安全
      */
-    private Map<Toast, Reference<Node>> referenceMap;
+    private Map<Class<? extends Node>, Deque<Node>> reusePool;
+
+    /**
+     * 弱/软引用 数量<br/>
+     * 启用引用队列前为null
+     */
+    private AtomicInteger referenceCount;
 
     /**
      * 引用队列
      */
-    private ReferenceQueue<Node> referenceQueue;
+    private volatile ReferenceQueue<Node> referenceQueue;
 
     /**
-     * 引用队列处理器
+     * 引用队列 轮询器<br/>
+     * 只在ui线程中操作，存在弱/软引用时运行
      */
-    private Thread referenceQueueHandler;
+    private Timeline referenceQueuePoller;
+
+    /**
+     * 引用队列 轮询器 是否已启动（或已提交启动）
+     */
+    private final AtomicBoolean referenceQueuePolling = new AtomicBoolean();
     // endregion
 
     /**
@@ -96,7 +184,8 @@ public class NodeHelper {
 
         Objects.requireNonNull(this.toastHelper, "toastHelper must non-null but is null.");
 
-        this.map = Collections.synchronizedMap(new HashMap<>());
+        this.slotMap = new ConcurrentHashMap<>();
+        this.reusePool = new ConcurrentHashMap<>();
     }
 
     /**
@@ -110,59 +199,120 @@ public class NodeHelper {
 
             if (this.referenceQueue != null) return;
 
-            this.referenceMap = Collections.synchronizedMap(new HashMap<>());
+            this.referenceCount = new AtomicInteger();
             this.referenceQueue = new ReferenceQueue<>();
         }
 
-        String threadName = "NodeHelper-Thread-" + this.hashCode();
-        this.referenceQueueHandler = new Thread(() -> {
+        log.debug("reference queue of NodeHelper is enabled.");
+    }
+
+    /**
+     * <h2>启动 引用队列 轮询器</h2>
+     * <p>可在任意线程中调用，已启动时忽略</p>
+     */
+    private void startReferenceQueuePoller() {
+
+        if (!this.referenceQueuePolling.compareAndSet(false, true)) return;
+
+        Runnable start = () -> {
+
+            // 已被销毁
+            if (this.referenceQueue == null) return;
+
+            if (this.referenceQueuePoller == null) {
+
+                this.referenceQueuePoller = new Timeline(new KeyFrame(REFERENCE_POLL_INTERVAL,
+                        it -> this.pollReferenceQueue()));
+                this.referenceQueuePoller.setCycleCount(Timeline.INDEFINITE);
+            }
+
+            this.referenceQueuePoller.play();
+        };
 
-            while (true) {
+        if (Platform.isFxApplicationThread()) start.run();
+        else Platform.runLater(start);
+    }
 
-                try {
+    /**
+     * <h2>轮询 引用队列</h2>
+     * <p>一次取出全部被回收的引用，自槽位中移除并计数后，再批量回调NodeRecyclable</p>
+     * <p>已无弱/软引用时，停止轮询</p>
+     */
+    private void pollReferenceQueue() {
 
-                    // 没有被GC时，处于阻塞状态
-                    Reference<? extends Node> reference = this.referenceQueue.remove();
+        ReferenceQueue<Node> referenceQueue = this.referenceQueue;
 
-                    if (reference instanceof ToastSupplier) {
+        // 已被销毁
+        if (referenceQueue == null) return;
 
-                        Toast toast = ((ToastSupplier) reference).getToast();
+        List<Toast> toasts = new ArrayList<>();
 
-                        log.trace("{} of Node is recovery.", toast);
+        Reference<? extends Node> reference;
+        while ((reference = referenceQueue.poll()) != null) {
 
-                        FXUtils.run(toast, NodeRecyclable.class, NodeRecyclable::onNodeRecycle);
+            if (!(reference instanceof ToastSupplier)) {
+                log.error("unknown reference : {}", reference.getClass().getName());
+                continue;
+            }
 
-                    } else log.error("unknown reference : {}", reference.getClass().getName());
+            Toast toast = ((ToastSupplier) reference).getToast();
 
-                } catch (InterruptedException e) {
+            // 已被回收的引用不再占用槽位；CAS失败时，其已被解引用（重新展示 或 忘记），并已计数
+            if (this.compareAndSetSlot(toast, reference, null)) this.referenceCount.decrementAndGet();
 
-                    log.trace("{} is interrupted.", threadName);
-                    break;
+            toasts.add(toast);
+        }
 
-                } catch (Throwable e) {
+        if (!toasts.isEmpty()) log.trace("{} Node is recovery.", toasts.size());
 
-                    // 被销毁了
-                    if (this.referenceMap == null) break;
+        for (Toast toast : toasts) {
 
-                    log.error("unknown error causing reference queue handler is interrupted.", e);
-                }
+            try {
+                FXUtils.run(toast, NodeRecyclable.class, NodeRecyclable::onNodeRecycle);
+            } catch (Throwable e) {
+                log.error("node recycle of toast[" + toast + "] failed.", e);
             }
+        }
 
-            this.referenceQueue = null;
-        });
-        this.referenceQueueHandler.setName(threadName);
-        this.referenceQueueHandler.setDaemon(true);
-        this.referenceQueueHandler.start();
-        log.debug("{} start...", threadName);
+        if (this.referenceCount.get() > 0) return;
+
+        this.referenceQueuePoller.stop();
+        this.referenceQueuePolling.set(false);
+
+        // 停止期间，又产生了新的引用
+        if (this.referenceCount.get() > 0) this.startReferenceQueuePoller();
     }
 
     /**
-     * <h2>得到引用-映射的数量</h2>
+     * <h2>得到弱/软引用的数量</h2>
      *
-     * @return 数量
+     * @return 数量，未启用引用队列时为-1
      */
     public int getReferenceMapSize() {
-        return this.referenceMap == null ? -1 : this.referenceMap.size();
+
+        AtomicInteger referenceCount = this.referenceCount;
+
+        return referenceCount == null ? -1 : referenceCount.get();
+    }
+
+    /**
+     * <h2>得到可复用Node池中，已回收Node的数量</h2>
+     *
+     * @return 数量，未初始化或已销毁时为-1
+     */
+    public int getReusePoolSize() {
+
+        Map<Class<? extends Node>, Deque<Node>> reusePool = this.reusePool;
+
+        if (reusePool == null) return -1;
+
+        int size = 0;
+
+        for (Deque<Node> pool : reusePool.values()) synchronized (pool) {
+            size += pool.size();
+        }
+
+        return size;
     }
 
     /**
@@ -176,16 +326,16 @@ public class NodeHelper {
 
         FXUtils.checkFxUserThread();
 
-        Node node = this.map.get(toast);
+        Object slot = this.getSlot(toast);
 
-        if (node == null) {
+        if (slot instanceof Node) return (Node) slot;
 
-            // 尝试从引用中提出，得不到时 —— 创建
-            node = this.tryTakeByReference(toast).orElseGet(() -> this.create(toast));
+        // 尝试从引用中提出，得不到时 —— 复用，无可复用时 —— 创建
+        Node node = this.tryTakeByReference(toast)
+                .orElseGet(() -> this.tryReuse(toast).orElseGet(() -> this.create(toast)));
 
-            // 添加强引用
-            this.map.put(toast, node);
-        }
+        // 添加强引用
+        this.setSlot(toast, node);
 
         return node;
     }
@@ -199,7 +349,10 @@ public class NodeHelper {
      * @return NodeOptional
      */
     Optional<Node> tryGet(@NonNull Toast toast) {
-        return Optional.ofNullable(this.map.get(toast));
+
+        Object slot = this.getSlot(toast);
+
+        return slot instanceof Node ? Optional.of((Node) slot) : Optional.empty();
     }
 
     /**
@@ -212,10 +365,12 @@ public class NodeHelper {
      */
     void archive(@NonNull Toast toast, Node node, ReferenceType referenceType) {
 
-        if (this.referenceMap != null && this.referenceMap.containsKey(toast))
+        Object slot = this.getSlot(toast);
+
+        if (slot instanceof Reference || slot instanceof LruEntry)
             throw new IllegalArgumentException("toast[" + toast + "] already archived.");
 
-        if (this.map.get(toast) != node)
+        if (slot != node)
             throw new IllegalArgumentException("toast doesn't match node.");
 
         // 归档操作，并非有Node而触发，因此Toast的归档回调不应放于此处
@@ -244,6 +399,9 @@ public class NodeHelper {
                 this.enableReferenceQueue();
                 this.strong2Reference(toast, new ToastSoftReference(toast, node));
                 break;
+            case LRU:
+                this.strong2Lru(toast, node);
+                break;
         }
     }
 
@@ -257,9 +415,7 @@ public class NodeHelper {
      */
     void forget(@NonNull Toast toast) {
 
-        Node node = this.map.remove(toast);
-
-        if (node == null) node = this.tryTakeByReference(toast).orElse(null);
+        Node node = this.deref(this.takeSlot(toast));
 
         if (node != null) this.destroyNode(toast, node);
     }
@@ -281,6 +437,72 @@ public class NodeHelper {
         return node;
     }
 
+    /**
+     * <h2>尝试复用Node</h2>
+     * <p>从可复用Node池中取出同类Node，并重新绑定至消息体</p>
+     *
+     * @param toast 消息体
+     * @return NodeOptional
+     */
+    private Optional<Node> tryReuse(@NonNull Toast toast) {
+
+        if (!(toast instanceof NodeReusable)) return Optional.empty();
+
+        NodeReusable reusable = (NodeReusable) toast;
+
+        Class<? extends Node> nodeClass = reusable.getReusableNodeClass();
+        if (nodeClass == null) return Optional.empty();
+
+        Deque<Node> pool = this.reusePool.get(nodeClass);
+        if (pool == null) return Optional.empty();
+
+        Node node;
+        synchronized (pool) {
+            node = pool.pollFirst();
+        }
+
+        if (node == null) return Optional.empty();
+
+        reusable.rebindNode(node);
+
+        log.trace("Node[{}] is reused.", node);
+
+        return Optional.of(node);
+    }
+
+    /**
+     * <h2>尝试回收Node</h2>
+     * <p>仅当消息体可复用Node、Node可复用、类型完全一致 且 池未满时，才会回收</p>
+     *
+     * @param toast 消息体
+     * @param node  Node
+     * @return 是否已回收
+     */
+    private boolean tryRecycle(@NonNull Toast toast, @NonNull Node node) {
+
+        Map<Class<? extends Node>, Deque<Node>> reusePool = this.reusePool;
+
+        if (reusePool == null || this.reusePoolCapacity <= 0 ||
+                !(toast instanceof NodeReusable) || !(node instanceof Reusable)) return false;
+
+        // 只回收类型完全一致的，避免子类（如：ListToastBar）混入
+        Class<? extends Node> nodeClass = ((NodeReusable) toast).getReusableNodeClass();
+        if (nodeClass != node.getClass()) return false;
+
+        Deque<Node> pool = reusePool.computeIfAbsent(nodeClass, it -> new ArrayDeque<>());
+
+        synchronized (pool) {
+
+            if (pool.size() >= this.reusePoolCapacity || !((Reusable) node).onRecycle()) return false;
+
+            pool.offerFirst(node);
+        }
+
+        log.trace("Node[{}] is recycled.", node);
+
+        return true;
+    }
+
     /**
      * <h2>强引用 转 引用</h2>
      *
@@ -288,13 +510,78 @@ public class NodeHelper {
      * @param reference 引用
      */
     private void strong2Reference(@NonNull Toast toast, Reference<Node> reference) {
-        this.referenceMap.put(toast, reference);
-        this.map.remove(toast);
+
+        // 与其他线程中的忘记竞争，失败时，Node已被销毁
+        if (this.compareAndSetSlot(toast, reference.get(), reference)) {
+
+            this.referenceCount.incrementAndGet();
+            this.startReferenceQueuePoller();
+
+        } else reference.clear();
+    }
+
+    /**
+     * <h2>强引用 转 LRU</h2>
+     * <p>放入后，淘汰超出预算的</p>
+     *
+     * @param toast 消息体
+     * @param node  Node
+     */
+    private void strong2Lru(@NonNull Toast toast, @NonNull Node node) {
+
+        long bytes = this.lruByteBudget > 0 ? this.nodeSizeEstimator.applyAsLong(node) : 0;
+
+        LruEntry entry = new LruEntry(toast, node, bytes);
+
+        // 与其他线程中的忘记竞争，失败时，Node已被销毁
+        if (!this.compareAndSetSlot(toast, node, entry)) return;
+
+        List<LruEntry> evictedEntries = new ArrayList<>();
+
+        synchronized (this.lru) {
+
+            entry.linkAfter(this.lru);
+            this.lruSize++;
+            this.lruBytes += bytes;
+
+            while (this.lruSize > this.lruCapacity ||
+                    (this.lruByteBudget > 0 && this.lruBytes > this.lruByteBudget && this.lruSize > 0)) {
+
+                LruEntry eldest = this.lru.prev;
+
+                this.unlinkLru(eldest);
+                evictedEntries.add(eldest);
+            }
+        }
+
+        // 槽位已被取走时，由取走者负责
+        for (LruEntry eldest : evictedEntries)
+            if (this.compareAndSetSlot(eldest.toast, eldest, null)) this.destroyNode(eldest.toast, eldest.node);
+
+        if (!evictedEntries.isEmpty()) log.trace("{} Node is evicted from LRU.", evictedEntries.size());
+    }
+
+    /**
+     * <h2>从LRU中移除</h2>
+     * <p>可重复调用</p>
+     *
+     * @param entry LRU项
+     */
+    private void unlinkLru(LruEntry entry) {
+
+        synchronized (this.lru) {
+
+            if (!entry.unlink()) return;
+
+            this.lruSize--;
+            this.lruBytes -= entry.bytes;
+        }
     }
 
     /**
      * <h2>销毁Node</h2>
      * <p>调用Toast、Node的onNodeDestroy</p>
+     * <p>可回收时，Node不会被销毁，而是回收至可复用Node池</p>
      *
      * @param toast 消息体
      * @param node  Node
@@ -304,6 +591,8 @@ public class NodeHelper {
         // Node的销毁，触发的Toast的回调，因此↓，应该放于此处
         FXUtils.run(toast, NodeDestroyable.class, it -> it.onNodeDestroy(node));
 
+        if (this.tryRecycle(toast, node)) return;
+
         // 尝试执行Node的Node销毁回调，Node为null时，会忽略
         FXUtils.run(node, Destroyable.class, Destroyable::onDestroy);
     }
@@ -316,19 +605,110 @@ public class NodeHelper {
      */
     private Optional<Node> tryTakeByReference(@NonNull Toast toast) {
 
-        if (this.referenceMap == null) return Optional.empty();
+        Object slot = this.getSlot(toast);
+
+        if (!(slot instanceof Reference || slot instanceof LruEntry) || !this.compareAndSetSlot(toast, slot, null))
+            return Optional.empty();
+
+        return Optional.ofNullable(this.deref(slot));
+    }
+
+    /**
+     * <h2>解引用</h2>
+     * <p>为Reference时，清除之；为LRU项时，将其移出LRU</p>
+     *
+     * @param slot 槽位中的值
+     * @return Node，可能为null
+     */
+    @SuppressWarnings("unchecked")
+    private Node deref(Object slot) {
 
-        Reference<Node> reference = this.referenceMap.remove(toast);
-        Node node = null;
+        if (slot instanceof LruEntry) {
 
-        if (reference != null) {
+            LruEntry entry = (LruEntry) slot;
+            this.unlinkLru(entry);
 
-            node = reference.get();
-            reference.clear();
+            return entry.node;
         }
 
-        return Optional.ofNullable(node);
+        if (!(slot instanceof Reference)) return (Node) slot;
+
+        Reference<Node> reference = (Reference<Node>) slot;
+
+        Node node = reference.get();
+        reference.clear();
+
+        AtomicInteger referenceCount = this.referenceCount;
+        if (referenceCount != null) referenceCount.decrementAndGet();
+
+        return node;
+    }
+
+    // region {槽位}
+
+    /**
+     * <h2>得到槽位中的值</h2>
+     *
+     * @param toast 消息体
+     * @return null、Node、Reference 或 LRU项
+     */
+    private Object getSlot(Toast toast) {
+
+        if (toast instanceof NodeSlotSupport) return ((NodeSlotSupport) toast).getNodeSlot();
+
+        return this.slotMap.get(toast);
+    }
+
+    /**
+     * <h2>设置槽位中的值</h2>
+     * <p>旧值为Reference 或 LRU项时，解引用之</p>
+     *
+     * @param toast 消息体
+     * @param node  Node
+     */
+    private void setSlot(Toast toast, @NonNull Node node) {
+
+        Object old = toast instanceof NodeSlotSupport
+                ? ((NodeSlotSupport) toast).getAndSetNodeSlot(node)
+                : this.slotMap.put(toast, node);
+
+        if (old instanceof Reference || old instanceof LruEntry) this.deref(old);
+    }
+
+    /**
+     * <h2>以CAS修改槽位中的值</h2>
+     *
+     * @param toast  消息体
+     * @param expect 期望值
+     * @param update 新值
+     * @return 是否修改成功
+     */
+    private boolean compareAndSetSlot(Toast toast, Object expect, Object update) {
+
+        if (toast instanceof NodeSlotSupport)
+            return ((NodeSlotSupport) toast).compareAndSetNodeSlot(expect, update);
+
+        if (expect == null) return update == null || this.slotMap.putIfAbsent(toast, update) == null;
+
+        if (update == null) return this.slotMap.remove(toast, expect);
+
+        return this.slotMap.replace(toast, expect, update);
+    }
+
+    /**
+     * <h2>取出槽位中的值</h2>
+     * <p>取出后，槽位为空</p>
+     *
+     * @param toast 消息体
+     * @return null、Node、Reference 或 LRU项
+     */
+    private Object takeSlot(Toast toast) {
+
+        if (toast instanceof NodeSlotSupport) return ((NodeSlotSupport) toast).getAndSetNodeSlot(null);
+
+        return this.slotMap.remove(toast);
     }
+    // endregion
 
     /**
      * <h2>销毁</h2>
@@ -337,58 +717,93 @@ public class NodeHelper {
      */
     void destroy() {
 
-        if (this.referenceQueueHandler != null) {
-            this.referenceQueueHandler.interrupt();
-            this.referenceQueueHandler = null;
+        if (this.referenceQueuePoller != null) {
+
+            this.referenceQueuePoller.stop();
+            this.referenceQueuePoller.getKeyFrames().clear();
+            this.referenceQueuePoller = null;
         }
 
-        Map<Toast, Node> map = this.map;
-        this.map = null;// 确保接下来的遍历不会出错
+        this.referenceQueue = null;
 
-        Map<Toast, Reference<Node>> referenceMap = this.referenceMap;
-        this.referenceMap = null;// 确保接下来的遍历不会出错
+        Map<Class<? extends Node>, Deque<Node>> reusePool = this.reusePool;
+        this.reusePool = null;// 确保接下来的销毁不会再回收
 
-        if (!map.isEmpty()) {
+        for (Deque<Node> pool : reusePool.values()) synchronized (pool) {
 
-            log.warn("{} not destroyed on strong map", map.size());
+            pool.forEach(node -> FXUtils.run(node, Destroyable.class, Destroyable::onDestroy));
+            pool.clear();
+        }
 
-            Iterator<Map.Entry<Toast, Node>> iterator = map.entrySet().iterator();
-            while (iterator.hasNext()) {
+        // LRU中的，直接销毁
+        List<LruEntry> lruEntries = new ArrayList<>();
 
-                Map.Entry<Toast, Node> entry = iterator.next();
-                Toast toast = entry.getKey();
+        synchronized (this.lru) {
+            while (this.lruSize > 0) {
 
-                this.destroyNode(toast, entry.getValue());
-                this.toastHelper.destroyToast(toast);
+                LruEntry eldest = this.lru.prev;
 
-                iterator.remove();
+                this.unlinkLru(eldest);
+                lruEntries.add(eldest);
             }
         }
 
-        if (referenceMap != null && !referenceMap.isEmpty()) {
+        for (LruEntry entry : lruEntries)
+            if (this.compareAndSetSlot(entry.toast, entry, null)) this.destroyNode(entry.toast, entry.node);
 
-            log.warn("{} not destroyed on reference map", referenceMap.size());
+        // 槽位中的其余Node随消息体一同销毁，此处只处理映射中的
+        Map<Toast, Object> slotMap = this.slotMap;
 
-            Iterator<Map.Entry<Toast, Reference<Node>>> iterator = referenceMap.entrySet().iterator();
+        if (!slotMap.isEmpty()) {
+
+            log.warn("{} not destroyed on slot map", slotMap.size());
+
+            Iterator<Map.Entry<Toast, Object>> iterator = slotMap.entrySet().iterator();
             while (iterator.hasNext()) {
 
-                Map.Entry<Toast, Reference<Node>> entry = iterator.next();
+                Map.Entry<Toast, Object> entry = iterator.next();
                 Toast toast = entry.getKey();
-                Reference<Node> reference = entry.getValue();
+                Node node = this.deref(entry.getValue());
 
-                this.destroyNode(toast, reference.get());
-                this.toastHelper.destroy(toast);
-
-                reference.clear();
                 iterator.remove();
+
+                if (node != null) this.destroyNode(toast, node);
+                this.toastHelper.destroyToast(toast);
             }
         }
 
+        this.referenceCount = null;
+
         this.referenceType = null;
 
         log.trace("NodeHelper is destroyed.");
     }
 
+    /**
+     * <h2>估算Node的字节数</h2>
+     * <p>粗略估算：场景图中的每个节点计 {@value #ESTIMATED_BYTES_PER_NODE} 字节</p>
+     *
+     * @param node Node
+     * @return 估算的字节数
+     */
+    private static long estimateNodeSize(@NonNull Node node) {
+
+        long count = 0;
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+
+            Node current = stack.pop();
+            count++;
+
+            if (current instanceof Parent) ((Parent) current).getChildrenUnmodifiable().forEach(stack::push);
+        }
+
+        return count * ESTIMATED_BYTES_PER_NODE;
+    }
+
     // region {ToastReference}
 
     /**
@@ -464,5 +879,72 @@ public class NodeHelper {
             this.toast = toast;
         }
     }
+
+    /**
+     * <h2>LRU项</h2>
+     *
+     * <p>存放于消息体的槽位中，同时是LRU双向链表的节点</p>
+     * <p>链表的读写需持有哨兵的锁</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 18:41:03</p>
+     * <p>更新时间：2026-10-18 18:41:03</p>
+     *
+     * @author Mr.Po
+     * @version 1.0
+     */
+    private static final class LruEntry {
+
+        private final Toast toast;
+
+        private final Node node;
+
+        /**
+         * 估算的字节数
+         */
+        private final long bytes;
+
+        private LruEntry prev = this;
+
+        private LruEntry next = this;
+
+        private LruEntry(Toast toast, Node node, long bytes) {
+            this.toast = toast;
+            this.node = node;
+            this.bytes = bytes;
+        }
+
+        /**
+         * <h2>链接至指定项之后</h2>
+         *
+         * @param entry 指定项
+         */
+        private void linkAfter(LruEntry entry) {
+
+            this.prev = entry;
+            this.next = entry.next;
+
+            entry.next.prev = this;
+            entry.next = this;
+        }
+
+        /**
+         * <h2>断开链接</h2>
+         *
+         * @return 是否在链表中
+         */
+        private boolean unlink() {
+
+            if (this.next == this) return false;
+
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+
+            this.prev = this;
+            this.next = this;
+
+            return true;
+        }
+    }
     // endregion
 }
\ No newline at end of file
@@ -23,11 +23,13 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.common.TeFunction;
 import org.pomo.toasterfx.component.SimpleDigestCalculator;
+import org.pomo.toasterfx.component.ToastJournal;
 import org.pomo.toasterfx.control.impl.ToastBar;
 import org.pomo.toasterfx.control.impl.ToastBarBase;
 import org.pomo.toasterfx.control.impl.ToastBoxPane;
 import org.pomo.toasterfx.model.ToastParameter;
 import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
 import org.pomo.toasterfx.model.impl.SingleToast;
 import org.pomo.toasterfx.model.impl.ToastTypes;
 import org.pomo.toasterfx.util.FXMessages;
@@ -36,15 +38,19 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h2>消息条 - 消息者 - 服务</h2>
  *
  * <p>快速创建消息条</p>
+ * <p>生成的单消息体支持复用消息条，需设置NodeHelper的可复用Node池容量</p>
+ * <p>生成的单消息体支持归档压缩，需启用MultiToastFactory的archiveCompact</p>
+ * <p>生成的单消息体携带标题与内容，设置了MultiToastFactory的archiveJournal时，可从日志中重建</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 16:15:13</p>
- * <p>更新时间：2020-09-27 16:15:13</p>
+ * <p>更新时间：2026-10-18 20:04:52</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -60,6 +66,15 @@ public class ToastBarToasterService extends ToasterService {
     @NonNull
     private BiFunction<String, String, String> digestCalculator;
 
+    /**
+     * 归档记录 重建器<br/>
+     * 所有单消息体共享，以记录中的标题与内容（压缩所得的记录只有前缀）重建消息条；二者均为null时，以摘要为内容重建
+     */
+    private final Function<ArchivedToast, SingleToast> rehydrator =
+            it -> it.getTitle() != null || it.getContent() != null
+                    ? this.born(it.getTitle(), it.getContent(), it.getParameter(), it.getType())
+                    : this.born(null, it.getDigest(), it.getParameter(), it.getType());
+
     public ToastBarToasterService(FXMessages messages) {
         super(messages);
     }
@@ -69,6 +84,15 @@ public class ToastBarToasterService extends ToasterService {
         super.autoFill();
 
         if (this.digestCalculator == null) this.digestCalculator = new SimpleDigestCalculator();
+
+        ToastJournal archiveJournal = this.getMultiToastFactory().getArchiveJournal();
+        if (archiveJournal != null && archiveJournal.getRehydrator() == null)
+            archiveJournal.setRehydrator(this.rehydrator);
+
+        // 以ToastBar预热，提前加载其样式表与皮肤
+        ToasterFactory toasterFactory = this.getToasterFactory();
+        if (toasterFactory.getWarmUpNodeSupplier() == null)
+            toasterFactory.setWarmUpNodeSupplier(() -> this.autoToastBar("", ""));
     }
 
     /**
@@ -88,10 +112,19 @@ public class ToastBarToasterService extends ToasterService {
         // 当消息参数为null时，使用缺省的消息参数
         if (parameter == null) parameter = this.getDefaultToastParameter();
 
-        return new SingleToast(parameter, type,
+        SingleToast toast = new SingleToast(parameter, type,
                 () -> this.digestCalculator.apply(title, content),
                 it -> autoToastBar(title, content)
         );
+
+        toast.setReusableNodeClass(title == null ? ToastBarBase.class : ToastBar.class)
+                .setNodeRebinder((it, node) -> this.rebindToastBar(node, title, content));
+
+        toast.setRehydrator(this.rehydrator)
+                .setTitle(title)
+                .setContent(content);
+
+        return toast;
     }
 
     /**
@@ -120,6 +153,21 @@ public class ToastBarToasterService extends ToasterService {
         return new ToastBar(title, content);
     }
 
+    /**
+     * <h2>重新绑定已回收的ToastBar</h2>
+     * <p>子类重写autoToastBar时，应一并重写此方法</p>
+     *
+     * @param node    已回收的ToastBar
+     * @param title   标题
+     * @param content 内容
+     */
+    protected void rebindToastBar(@NonNull Node node, String title, @NonNull String content) {
+
+        if (node instanceof ToastBar) ((ToastBar) node).setTitle(title);
+
+        ((ToastBarBase) node).setContent(content);
+    }
+
     /**
      * <h2>弹出消息</h2>
      * <p>将 一些必要信息组装为Toast 放入 消息队列 中</p>
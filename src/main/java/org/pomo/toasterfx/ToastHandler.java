@@ -16,6 +16,7 @@
 package org.pomo.toasterfx;
 
 import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
@@ -24,19 +25,27 @@ import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.pomo.toasterfx.component.PriorityToastQueue;
+import org.pomo.toasterfx.component.ToastRingBuffer;
 import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.util.FXUtils;
+import org.pomo.toasterfx.util.ToastExecutors;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <h2>消息体处理器</h2>
  *
- * <p>通过守护线程，从队列中取出消息体，并装入候选消息队列中</p>
+ * <p>通过执行器，从队列中取出消息体，并装入候选消息队列中</p>
+ * <p>仅在有消息体待处理时，才会向执行器提交任务，空闲时不占用线程</p>
+ * <p>候选消息体默认按固定间隔逐条展示；开启脉冲模式后，则在每一帧中批量展示</p>
+ * <p>默认先进先出；设置优先级后，过多时优先归档低优先级的消息体，且高优先级的消息体可抢占低优先级的可见消息者</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 16:38:01</p>
- * <p>更新时间：2020-09-27 16:38:01</p>
+ * <p>更新时间：2026-10-18 19:21:40</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -44,6 +53,12 @@ import java.util.concurrent.*;
 @Slf4j
 public class ToastHandler {
 
+    /**
+     * 按严重程度排序的优先级，严重程度越高越靠前
+     */
+    public static final Comparator<Toast> SEVERITY_FIRST =
+            Comparator.comparingInt((Toast it) -> it.getType().getSeverity()).reversed();
+
     // region {成员组件}
     /**
      * 消息者工厂
@@ -71,7 +86,8 @@ public class ToastHandler {
     /**
      * 消息体 队列<br/>
      * push后会进入此队列<br/>
-     * 会在多个线程中被使用，应该使用线程安全的实例
+     * 会在多个线程中被使用，应该使用线程安全的实例<br/>
+     * 高并发push时，可替换为{@link ToastRingBuffer}；按优先级分通道时，可替换为{@link PriorityToastQueue}
      */
     @Setter
     @NonNull
@@ -94,10 +110,40 @@ public class ToastHandler {
     private int limit = 7;
 
     /**
-     * 消息体队列 处理器<br/>
-     * 间隔 @toastsHandleInterval，执行一次
+     * 优先级<br/>
+     * 排序越靠前，优先级越高；为null时，先进先出<br/>
+     * 设置后，候选消息过多时优先归档低优先级的消息体，展示时可抢占低优先级的可见消息者
+     *
+     * @see #SEVERITY_FIRST
+     */
+    @Setter
+    private Comparator<Toast> priority;
+
+    /**
+     * 消息体队列 处理执行器<br/>
+     * 默认为 ToastExecutors.getDefault()，销毁时不会关闭此执行器
+     */
+    @Setter
+    @NonNull
+    private Executor executor;
+
+    /**
+     * 消息体队列 处理任务 是否已提交<br/>
+     * 确保同一时刻，最多只有一个处理任务
+     */
+    private final AtomicBoolean toastsHandlerScheduled = new AtomicBoolean();
+
+    /**
+     * 用于接收卸载下来的消息体集合<br/>
+     * 只会在处理任务中被操作
+     */
+    private final List<Toast> drainToasts = new ArrayList<>();
+
+    /**
+     * 待归档消息集合<br/>
+     * 只会在处理任务中被操作
      */
-    private Thread toastsHandler;
+    private final List<Toast> archiveToasts = new ArrayList<>();
 
     /**
      * 候选消息队列 处理器<br/>
@@ -113,14 +159,36 @@ public class ToastHandler {
     private long candidateToastsHandleInterval = 200;
 
     /**
-     * 候选消息体队列 栅栏
+     * 是否启用 脉冲模式<br/>
+     * 启用后，候选消息体在每一帧（FX脉冲）中批量展示，并只校正一次可见队列<br/>
+     * 此时，@candidateToastsHandleInterval 无效
      */
-    private final CyclicBarrier candidateToastsBarrier = new CyclicBarrier(2);
+    @Setter
+    private boolean pulseDrain;
+
+    /**
+     * 脉冲模式下，每一帧最多展示的消息体数量
+     */
+    @Setter
+    private int maxToastsPerPulse = 7;
 
     /**
-     * FX线程异常
+     * 候选消息队列 脉冲处理器<br/>
+     * 脉冲模式下，替代 @candidateToastsHandler
      */
-    private Throwable FXThreadThrowable;
+    private AnimationTimer candidateToastsPulseHandler;
+
+    /**
+     * 候选消息队列 脉冲处理器 是否应运行<br/>
+     * 可在任意线程中修改，处理器本身只在ui线程中按此启停
+     */
+    private final AtomicBoolean candidateToastsPulseHandlerRunning = new AtomicBoolean();
+
+    /**
+     * 脉冲模式下，每一帧待展示的消息体集合<br/>
+     * 只会在ui线程中被操作
+     */
+    private final List<Toast> pulseToasts = new ArrayList<>();
 
     /**
      * 是否为首次play
@@ -138,9 +206,27 @@ public class ToastHandler {
         Objects.requireNonNull(this.toastHelper, "toastHelper must non-null but is null.");
 
         if (this.toasts == null) this.toasts = new LinkedBlockingQueue<>();
-        if (this.candidateToasts == null) this.candidateToasts = new ConcurrentLinkedQueue<>();
+        if (this.candidateToasts == null) this.candidateToasts = this.priority == null
+                ? new ConcurrentLinkedQueue<>()
+                : new PriorityBlockingQueue<>(this.limit + 1, this.priority);
+        if (this.executor == null) this.executor = ToastExecutors.getDefault();
+
+        // 环形缓冲溢出的消息体，直接归档
+        FXUtils.run(this.toasts, ToastRingBuffer.class, it -> it.setOnOverflow(this::archiveLater));
+        FXUtils.run(this.toasts, PriorityToastQueue.class, it -> it.setOnOverflow(this::archiveLater));
+
+        if (this.maxToastsPerPulse <= 0)
+            throw new IllegalArgumentException("maxToastsPerPulse must greater than 0, actual : "
+                    + this.maxToastsPerPulse + ".");
 
         // region {候选消息体队列处理器}
+        this.candidateToastsPulseHandler = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                ToastHandler.this.showPulse();
+            }
+        };
+
         this.candidateToastsHandler = new Timeline(
                 new KeyFrame(Duration.ZERO, it -> {
 
@@ -154,180 +240,364 @@ public class ToastHandler {
         );
         this.candidateToastsHandler.setCycleCount(Timeline.INDEFINITE);
         // endregion
+    }
+
+    /**
+     * <h2>推入</h2>
+     * <p>将 消息 放入 消息队列 中</p>
+     * <p>当短时间内，push量很大时，此消息可能不会弹出，而是放入 消息列表 中</p>
+     * <p>此方法应由ToastHelper调用</p>
+     *
+     * @param toast 消息
+     * @return 是否添加成功（立即）
+     */
+    boolean push(@NonNull Toast toast) {
+
+        boolean result = this.toasts.offer(toast);
+
+        this.schedule();
+
+        return result;
+    }
 
-        // region {消息体队列处理器}
-        String threadName = "ToastHandler-Thread-" + this.hashCode();
-        this.toastsHandler = new Thread(() -> {
+    /**
+     * <h2>推入</h2>
+     * <p>将 消息 放入 消息队列 中</p>
+     * <p>此方法应由ToastHelper调用</p>
+     *
+     * @param toasts 消息集
+     * @return 是否添加成功（立即）
+     */
+    boolean push(@NonNull Collection<Toast> toasts) {
+
+        boolean result = this.toasts.addAll(toasts);
+
+        this.schedule();
+
+        return result;
+    }
+
+    /**
+     * <h2>是否为空</h2>
+     * <p>消息列表 与 待显示消息列表 是否为空</p>
+     *
+     * @return 是/否
+     */
+    boolean isEmpty() {
+        return this.toasts.isEmpty() && this.candidateToasts.isEmpty();
+    }
+
+    /**
+     * <h2>调度</h2>
+     * <p>尚无处理任务时，向执行器提交一个</p>
+     */
+    private void schedule() {
 
-            // 用于接收卸载下来的消息体集合
-            List<Toast> list = new ArrayList<>();
+        Executor executor = this.executor;
 
-            // 待归档消息集合
-            List<Toast> archiveToasts = new ArrayList<>();
+        // 已被销毁
+        if (executor == null) return;
+
+        if (this.toastsHandlerScheduled.compareAndSet(false, true)) {
+
+            try {
+
+                executor.execute(this::handle);
+
+            } catch (RejectedExecutionException e) {
+
+                this.toastsHandlerScheduled.set(false);
+
+                log.error("toast handle task is rejected.", e);
+            }
+        }
+    }
+
+    /**
+     * <h2>处理</h2>
+     * <p>将消息体队列中的消息体，逐个装入候选消息队列，直至消息体队列为空</p>
+     * <p>消息体队列 与 候选消息体队列 均为空时，停止候选消息队列处理器</p>
+     */
+    private void handle() {
+
+        try {
+
+            log.trace("toast queue start work...");
 
             while (true) {
 
+                BlockingQueue<Toast> toasts = this.toasts;
+
+                // 被销毁了
+                if (toasts == null) return;
+
                 try {
 
-                    Toast toast;
+                    // 从toasts中的取出，没有时，返回null
+                    Toast toast = toasts.poll();
 
-                    // 消息体队列 与 候选消息体队列 均为空时 (若只判断后者，则可能会stop后，又立即play)
-                    if (this.isEmpty()) {
+                    if (toast == null) {
 
-                        this.candidateToastsHandler.stop();
+                        // 消息体队列 与 候选消息体队列 均为空时 (若只判断后者，则可能会stop后，又立即play)
+                        if (this.isEmpty()) this.stopCandidateToastsHandler();
 
-                        log.trace("toast queue and toast of candidate queue, start sleep...");
+                        log.trace("toast queue start rest...");
 
-                        // 从toasts中的取出，没有时，阻塞
-                        toast = this.toasts.take();
+                        return;
+                    }
 
-                        log.trace("toast queue start work...");
+                    this.handle(toast);
 
-                    } else {
+                } catch (Throwable e) {
 
-                        // 从toasts中的取出，没有时，返回null
-                        toast = this.toasts.poll();
+                    // 被销毁了
+                    if (this.toasts == null) return;
 
-                        // 消息体队列没有新数据，但 候选消息体队列，尚有未处理完的数据
-                        if (toast == null) {
+                    log.error("unexpected error occurred while processing toast.", e);
 
-                            log.trace("toast queue start rest...");
+                } finally {
 
-                            // 等待 候选消息体队列中的数据被处理
-                            candidateToastsBarrier.await();
+                    this.drainToasts.clear();
+                    this.archiveToasts.clear();
+                }
+            }
 
-                            log.trace("toast queue is notified...");
+        } finally {
 
-                            continue;
-                        }
-                    }
+            this.toastsHandlerScheduled.set(false);
 
-                    // 候选消息体队列数量<限制时，立即加入候选
-                    if (this.candidateToasts.size() < this.limit) {
+            // 释放后，可能有新的消息体已推入，但其调度失败，此处补偿
+            BlockingQueue<Toast> toasts = this.toasts;
+            if (toasts != null && !toasts.isEmpty()) this.schedule();
+        }
+    }
 
-                        this.candidateToasts.add(toast);
+    /**
+     * <h2>处理</h2>
+     * <p>将消息体装入候选消息队列，候选消息过多时，归档较旧的消息体</p>
+     *
+     * @param toast 消息体
+     */
+    private void handle(Toast toast) {
 
-                        if (this.candidateToastsHandler.getStatus() == Animation.Status.STOPPED) {
+        // 候选消息体队列数量<限制时，立即加入候选
+        if (this.candidateToasts.size() < this.limit) {
 
-                            log.trace("toast queue start work...");
-                            this.firstPlay = true;
-                            this.candidateToastsHandler.play();
-                        }
+            this.candidateToasts.add(toast);
 
-                        continue;
-                    }
+            if (this.isCandidateToastsHandlerStopped()) this.playCandidateToastsHandler();
 
-                    // --- ↓ 候选消息体队列已有不菲的数据量 ↓ ---
+            return;
+        }
 
-                    list.add(toast);
+        // --- ↓ 候选消息体队列已有不菲的数据量 ↓ ---
 
-                    // 卸载队列[toasts]至此集合[list]
-                    this.toasts.drainTo(list);
+        if (this.priority != null) {
 
-                    // 新的候选消息队列
-                    List<Toast> newCandidateToasts;
+            this.handleByPriority(toast);
+            return;
+        }
 
-                    // 此间隔产生的消息过多
-                    if (list.size() > this.limit) {
+        List<Toast> list = this.drainToasts;
+        List<Toast> archiveToasts = this.archiveToasts;
 
-                        int index = list.size() - this.limit;
+        list.add(toast);
 
-                        // 截取尾部[新的]，需要展示的(包含index)
-                        newCandidateToasts = list.subList(index, list.size());
+        // 卸载队列[toasts]至此集合[list]
+        this.toasts.drainTo(list);
 
-                        // 添加至待归档列表(不包含index)
-                        archiveToasts.addAll(list.subList(0, index));
+        // 新的候选消息队列
+        List<Toast> newCandidateToasts;
 
-                    } else {
+        // 此间隔产生的消息过多
+        if (list.size() > this.limit) {
 
-                        newCandidateToasts = list;
-                    }
+            int index = list.size() - this.limit;
 
-                    // 期待的候选消息size
-                    int targetCandidateToastsSize = this.limit - newCandidateToasts.size();
+            // 截取尾部[新的]，需要展示的(包含index)
+            newCandidateToasts = list.subList(index, list.size());
 
-                    // 旧候选展示消息队列数量过多
-                    while (this.candidateToasts.size() > targetCandidateToastsSize) {
+            // 添加至待归档列表(不包含index)
+            archiveToasts.addAll(list.subList(0, index));
 
-                        // 取出一部分，并添加至待归档列表
-                        archiveToasts.add(this.candidateToasts.poll());
-                    }
+        } else {
 
-                    // 当归档列表不为空时，进行归档操作
-                    if (!archiveToasts.isEmpty()) {
+            newCandidateToasts = list;
+        }
 
-                        // 会被阻塞
-                        this.multiToastFactory.archive(archiveToasts);
-                    }
+        // 期待的候选消息size
+        int targetCandidateToastsSize = this.limit - newCandidateToasts.size();
+
+        // 旧候选展示消息队列数量过多
+        while (this.candidateToasts.size() > targetCandidateToastsSize) {
 
-                    // 添加至候选消息中
-                    this.candidateToasts.addAll(newCandidateToasts);
+            // 取出一部分，并添加至待归档列表
+            archiveToasts.add(this.candidateToasts.poll());
+        }
 
-                } catch (InterruptedException e) {// 操作被打断
+        // 当归档列表不为空时，进行归档操作
+        if (!archiveToasts.isEmpty()) {
 
-                    log.trace("{} is interrupted.", threadName);
+            // 不会阻塞，archiveToasts 可立即复用
+            this.multiToastFactory.archive(archiveToasts);
+        }
 
-                    break;
+        // 添加至候选消息中
+        this.candidateToasts.addAll(newCandidateToasts);
+    }
 
-                } catch (BrokenBarrierException e) {// 栅栏被打断，UI线程执行出错
+    /**
+     * <h2>按优先级处理</h2>
+     * <p>合并 旧候选消息体 与 此间隔产生的消息体，保留优先级最高的@limit个作为候选，其余归档</p>
+     * <p>批量排序，均摊至每个消息体为O(log n)</p>
+     *
+     * @param toast 消息体
+     */
+    private void handleByPriority(Toast toast) {
 
-                    log.error("unexpected error occurred while processing toast.", this.FXThreadThrowable);
-                    this.FXThreadThrowable = null;
+        List<Toast> list = this.drainToasts;
+        List<Toast> archiveToasts = this.archiveToasts;
 
-                } catch (Throwable e) {
+        // 按时间先后合并：旧候选 -> 当前 -> 队列中剩余
+        Toast candidateToast;
+        while ((candidateToast = this.candidateToasts.poll()) != null) list.add(candidateToast);
 
-                    // 被销毁了
-                    if (this.toasts == null) break;
+        list.add(toast);
+        this.toasts.drainTo(list);
 
-                    log.error("unexpected error occurred while processing toast.", e);
+        // 先反转再稳定排序，优先级相同时，较新的靠前
+        Collections.reverse(list);
+        list.sort(this.priority);
 
-                } finally {
+        // 候选消息体可能正被ui线程取走，故数量可能不足@limit
+        int size = Math.min(this.limit, list.size());
 
-                    list.clear();
-                    archiveToasts.clear();
-                }
-            }
-        });
-        this.toastsHandler.setName(threadName);
-        this.toastsHandler.setDaemon(true);
-        this.toastsHandler.start();
-        log.debug("{} start...", threadName);
-        // endregion
+        archiveToasts.addAll(list.subList(size, list.size()));
+
+        if (!archiveToasts.isEmpty()) this.multiToastFactory.archive(archiveToasts);
+
+        this.candidateToasts.addAll(list.subList(0, size));
     }
 
     /**
-     * <h2>推入</h2>
-     * <p>将 消息 放入 消息队列 中</p>
-     * <p>当短时间内，push量很大时，此消息可能不会弹出，而是放入 消息列表 中</p>
-     * <p>此方法应由ToastHelper调用</p>
+     * <h2>稍后归档</h2>
+     * <p>不经过候选消息队列直接归档，不会创建Node；稍后由ui线程加入多消息体</p>
+     * <p>用于有界消息体队列溢出、超出限流额度的消息体</p>
      *
-     * @param toast 消息
-     * @return 是否添加成功（立即）
+     * @param toast 消息体
      */
-    boolean push(@NonNull Toast toast) {
-        return this.toasts.offer(toast);
+    void archiveLater(Toast toast) {
+        this.multiToastFactory.archive(Collections.singletonList(toast));
     }
 
     /**
-     * <h2>推入</h2>
-     * <p>将 消息 放入 消息队列 中</p>
-     * <p>此方法应由ToastHelper调用</p>
+     * <h2>抢占</h2>
+     * <p>仅在设置了优先级时生效</p>
      *
-     * @param toasts 消息集
-     * @return 是否添加成功（立即）
+     * @param toast 即将展示的消息体
      */
-    boolean push(@NonNull Collection<Toast> toasts) {
-        return this.toasts.addAll(toasts);
+    private void preempt(Toast toast) {
+        if (this.priority != null) this.toasterFactory.preempt(toast, this.priority, this.limit);
     }
 
     /**
-     * <h2>是否为空</h2>
-     * <p>消息列表 与 待显示消息列表 是否为空</p>
+     * <h2>候选消息队列处理器 是否已停止</h2>
      *
      * @return 是/否
      */
-    boolean isEmpty() {
-        return this.toasts.isEmpty() && this.candidateToasts.isEmpty();
+    private boolean isCandidateToastsHandlerStopped() {
+
+        if (this.pulseDrain) return !this.candidateToastsPulseHandlerRunning.get();
+
+        return this.candidateToastsHandler.getStatus() == Animation.Status.STOPPED;
+    }
+
+    /**
+     * <h2>播放 候选消息队列处理器</h2>
+     */
+    private void playCandidateToastsHandler() {
+
+        if (this.pulseDrain) {
+
+            this.candidateToastsPulseHandlerRunning.set(true);
+            FXUtils.pulseLater(this::syncCandidateToastsPulseHandler);
+
+        } else {
+
+            this.firstPlay = true;
+            this.candidateToastsHandler.play();
+        }
+    }
+
+    /**
+     * <h2>停止 候选消息队列处理器</h2>
+     */
+    private void stopCandidateToastsHandler() {
+
+        if (this.pulseDrain) {
+
+            this.candidateToastsPulseHandlerRunning.set(false);
+            FXUtils.pulseLater(this::syncCandidateToastsPulseHandler);
+
+        } else {
+
+            this.candidateToastsHandler.stop();
+        }
+    }
+
+    /**
+     * <h2>同步 候选消息队列 脉冲处理器</h2>
+     * <p>在ui线程中，按最新的运行标记启停（AnimationTimer并非线程安全）</p>
+     * <p>启停任务按提交顺序执行，且均读取最新标记，故最终状态与标记一致</p>
+     */
+    private void syncCandidateToastsPulseHandler() {
+
+        AnimationTimer handler = this.candidateToastsPulseHandler;
+
+        // 已被销毁
+        if (handler == null) return;
+
+        if (this.candidateToastsPulseHandlerRunning.get()) handler.start();
+        else handler.stop();
+    }
+
+    /**
+     * <h2>脉冲展示</h2>
+     * <p>取出当前帧就绪的候选消息体（不超过 @maxToastsPerPulse），批量展示</p>
+     */
+    private void showPulse() {
+
+        try {
+
+            Toast toast;
+
+            while (this.pulseToasts.size() < this.maxToastsPerPulse
+                    && (toast = this.candidateToasts.poll()) != null) {
+
+                this.pulseToasts.add(toast);
+            }
+
+            // 此帧无候选消息体，无需唤醒
+            if (this.pulseToasts.isEmpty()) return;
+
+            this.pulseToasts.forEach(this::preempt);
+
+            this.toasterFactory.show(this.pulseToasts);
+
+        } catch (Throwable e) {
+
+            log.error("unexpected error occurred while processing show toast.", e);
+
+        } finally {
+
+            if (!this.pulseToasts.isEmpty()) {
+
+                this.pulseToasts.clear();
+
+                // 调度 消息体队列处理任务，以补充候选消息体，或停止此处理器
+                this.schedule();
+            }
+        }
     }
 
     /**
@@ -341,20 +611,20 @@ public class ToastHandler {
             Toast toast = this.candidateToasts.poll();
 
             // 当消息体不为null时，进行展示
-            if (toast != null)
-                this.toasterFactory.show(toast);
+            if (toast != null) {
 
-            // 当 候选消息体队列栅栏 ，存在等待时，将其唤醒
-            if (candidateToastsBarrier.getNumberWaiting() > 0)
-                candidateToastsBarrier.await();
+                this.preempt(toast);
+                this.toasterFactory.show(toast);
+            }
 
         } catch (Throwable e) {
 
-            this.FXThreadThrowable = e;
-
             log.error("unexpected error occurred while processing show toast.", e);
 
-            this.candidateToastsBarrier.reset();
+        } finally {
+
+            // 调度 消息体队列处理任务，以补充候选消息体，或停止此处理器
+            this.schedule();
         }
     }
 
@@ -363,13 +633,16 @@ public class ToastHandler {
      */
     void destroy() {
 
-        this.toastsHandler.interrupt();
-        this.toastsHandler = null;
+        this.executor = null;
 
         this.candidateToastsHandler.stop();
         this.candidateToastsHandler.getKeyFrames().clear();
         this.candidateToastsHandler = null;
 
+        this.candidateToastsPulseHandler.stop();
+        this.candidateToastsPulseHandler = null;
+        this.candidateToastsPulseHandlerRunning.set(false);
+
         BlockingQueue<Toast> toasts = this.toasts;
         this.toasts = null;// 确保接下来的遍历不会出错
 
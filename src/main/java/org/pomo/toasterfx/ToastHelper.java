@@ -16,28 +16,38 @@
 package org.pomo.toasterfx;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.common.Destroyable;
+import org.pomo.toasterfx.component.ToastCoalescer;
+import org.pomo.toasterfx.component.ToastRateLimiter;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.scalable.DigestSupport;
 import org.pomo.toasterfx.model.scalable.MutableStateToast;
+import org.pomo.toasterfx.model.scalable.OutcomeSupport;
 import org.pomo.toasterfx.util.FXUtils;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * <h2>消息体 助理</h2>
  *
  * <p>维护消息体的生命周期</p>
+ * <p>设置合并器后，push时会先合并重复的消息体</p>
+ * <p>设置限流器后，超出额度的消息体不会被展示，而是直接归档</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 17:55:28</p>
- * <p>更新时间：2020-09-27 17:55:28</p>
+ * <p>更新时间：2026-10-18 20:46:05</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -73,6 +83,22 @@ public class ToastHelper {
     @Setter
     @NonNull
     private ToastHandler toastHandler;
+
+    /**
+     * 消息体 合并器<br/>
+     * 为null时，不进行合并
+     */
+    @Getter
+    @Setter
+    private ToastCoalescer coalescer;
+
+    /**
+     * 消息体 限流器<br/>
+     * 为null时，不进行限流
+     */
+    @Getter
+    @Setter
+    private ToastRateLimiter rateLimiter;
     // endregion
 
     /**
@@ -111,6 +137,14 @@ public class ToastHelper {
             return false;
         }
 
+        this.digest(toast);
+
+        // 已合并至存活的消息体中，直接丢弃
+        if (this.coalesce(toast)) return true;
+
+        // 超出限流额度，直接归档
+        if (this.throttle(toast)) return true;
+
         return this.toastHandler.push(toast);
     }
 
@@ -132,9 +166,38 @@ public class ToastHelper {
 
         if (list.isEmpty()) return false;
 
+        list.forEach(this::digest);
+
+        // 全部已合并 或 已归档时，视为成功
+        if (list.removeIf(it -> this.coalesce(it) || this.throttle(it)) && list.isEmpty()) return true;
+
         return this.toastHandler.push(list);
     }
 
+    /**
+     * <h2>异步推入</h2>
+     * <p>将 消息 放入 消息队列 中，并返回其结局</p>
+     * <p>推入失败时，结局以异常完成</p>
+     * <p>返回的为派生的结局，调用方完成或取消它，不影响消息体自身及其他调用方的结局</p>
+     *
+     * @param toast 消息
+     * @return 结局
+     * @see OutcomeSupport
+     */
+    CompletionStage<ToastState> pushAsync(@NonNull Toast toast) {
+
+        if (!(toast instanceof OutcomeSupport))
+            throw new IllegalArgumentException("toast[" + toast + "] not support outcome.");
+
+        // 须在推入前创建，确保不会错过状态变更
+        CompletableFuture<ToastState> outcome = ((OutcomeSupport) toast).getOutcome().thenApply(Function.identity());
+
+        if (!this.push(toast))
+            outcome.completeExceptionally(new IllegalStateException("toast[" + toast + "] push fail."));
+
+        return outcome;
+    }
+
     /**
      * <h2>销毁 消息体</h2>
      * <p>当Node存在时，会销毁Node</p>
@@ -184,6 +247,52 @@ public class ToastHelper {
         return this.toastHandler.isEmpty();
     }
 
+    /**
+     * <h2>计算摘要</h2>
+     * <p>在推入线程中预先计算惰性摘要，避免其在ui线程中计算</p>
+     *
+     * @param toast 消息体
+     */
+    private void digest(Toast toast) {
+        FXUtils.run(toast, DigestSupport.class, DigestSupport::getDigest);
+    }
+
+    /**
+     * <h2>合并</h2>
+     * <p>合并成功时，销毁此消息体（尚未产生Node）</p>
+     *
+     * @param toast 消息体
+     * @return 是否已合并
+     */
+    private boolean coalesce(Toast toast) {
+
+        ToastCoalescer coalescer = this.coalescer;
+
+        if (coalescer == null || !coalescer.coalesce(toast)) return false;
+
+        this.destroyToast(toast);
+
+        return true;
+    }
+
+    /**
+     * <h2>限流</h2>
+     * <p>超出额度时，跳过Toaster、Node的创建，直接归档</p>
+     *
+     * @param toast 消息体
+     * @return 是否已被限流
+     */
+    private boolean throttle(Toast toast) {
+
+        ToastRateLimiter rateLimiter = this.rateLimiter;
+
+        if (rateLimiter == null || rateLimiter.tryAcquire(toast)) return false;
+
+        this.toastHandler.archiveLater(toast);
+
+        return true;
+    }
+
     /**
      * <h2>仅销毁消息体</h2>
      */
@@ -207,6 +316,8 @@ public class ToastHelper {
         this.toastHandler.destroy();
         this.toastHandler = null;
 
+        if (this.coalescer != null) this.coalescer.clear();
+
         log.trace("ToastHelper is destroyed.");
     }
 }
@@ -33,6 +33,7 @@ import org.pomo.toasterfx.control.ToasterHoverListener;
 import org.pomo.toasterfx.model.Audio;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.ToastType;
 import org.pomo.toasterfx.model.ToasterState;
 import org.pomo.toasterfx.model.scalable.CloseCondition;
 import org.pomo.toasterfx.model.scalable.MutableStateToast;
@@ -52,7 +53,7 @@ import java.util.function.BiConsumer;
  * <br/>
  *
  * <p>创建时间：2020-09-27 16:20:02</p>
- * <p>更新时间：2020-09-27 16:20:02</p>
+ * <p>更新时间：2026-10-18 21:08:26</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -61,6 +62,11 @@ import java.util.function.BiConsumer;
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
 public final class Toaster {
 
+    /**
+     * 预热时，屏幕外展示的偏移量
+     */
+    private static final double WARM_UP_OFFSET = 100_000;
+
     // region {成员组件，不可变，除非销毁}
     /**
      * 消息者 工厂
@@ -159,6 +165,14 @@ public final class Toaster {
     @Getter
     private double width;
 
+    /**
+     * 在展示中消息者登记表中的下标<br/>
+     * 不在其中时，为-1
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private int visualIndex = -1;
+
     /**
      * 消息状态
      */
@@ -347,6 +361,40 @@ public final class Toaster {
         this.popup.getContent().add(this.toastBox.getBox());
     }
 
+    /**
+     * <h2>预热</h2>
+     * <p>以样例Node，在屏幕外进行一次不可见的展示，完成CSS应用与布局</p>
+     * <p>此后popup保持显示（不可见），首次show时无需再创建窗口</p>
+     * <p>只允许在初始状态下调用</p>
+     *
+     * @param node      样例Node，为null时，只预热消息盒子
+     * @param toastType 样例消息类型
+     */
+    void warmUp(Node node, @NonNull ToastType toastType) {
+
+        FXUtils.checkFxUserThread();
+
+        if (this.state != ToasterState.INITIAL)
+            throw new IllegalArgumentException("current toaster of state is " + this.state + ", stop warmUp().");
+
+        if (node != null) this.toastBox.setNode(node);
+        this.toastBox.setToastType(toastType);
+
+        Parent box = this.toastBox.getBox();
+
+        this.popup.getContent().add(box);
+
+        // 屏幕外展示，且透明
+        this.popup.show(this.toasterFactory.getWindow(), -WARM_UP_OFFSET, -WARM_UP_OFFSET);
+
+        box.applyCss();
+        box.layout();
+        this.popup.sizeToScene();
+
+        this.resetPopup();
+        this.resetToastBox();
+    }
+
     /**
      * <h2>显示</h2>
      *
@@ -377,6 +425,7 @@ public final class Toaster {
         strategy.anchor(this);
 
         this.state = ToasterState.SHOWING;
+        this.toasterFactory.markShowing(this);
 
         final Toast toast = this.toast;
         final Node node = this.toastBox.getNode();
@@ -463,6 +512,7 @@ public final class Toaster {
 
         // 保证其不会再被校正队列位置
         this.state = ToasterState.HIDING;
+        this.toasterFactory.unmarkShowing(this);
 
         this.transitionOut.readyPlay();
     }
@@ -17,6 +17,7 @@ package org.pomo.toasterfx;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.stage.Screen;
 import javafx.stage.Window;
 import javafx.util.Duration;
@@ -27,6 +28,8 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.control.ToastBox;
 import org.pomo.toasterfx.control.impl.ToastBoxPane;
+import org.pomo.toasterfx.model.MultiToast;
+import org.pomo.toasterfx.model.PoolMetrics;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.impl.ToastTypes;
 import org.pomo.toasterfx.strategy.PopupStrategy;
@@ -40,17 +43,18 @@ import org.pomo.toasterfx.util.FXMessages;
 import org.pomo.toasterfx.util.FXUtils;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * <h2>消息者 工厂</h2>
  *
  * <p>负责生产“消息者”</p>
+ * <p>消息者池由 空闲队列 与 使用中集合 组成，取用与归还均为O(1)</p>
  * <br/>
  *
  * <p>创建时间：2020-09-27 16:28:05</p>
- * <p>更新时间：2020-09-27 16:28:05</p>
+ * <p>更新时间：2026-10-18 21:08:26</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -151,22 +155,87 @@ public class ToasterFactory {
     private ToasterWindow window;
 
     /**
-     * 消息者 池<br/>
-     * 包含所有的消息者
+     * 空闲的消息者 队列<br/>
+     * 最近归还的位于队首，优先被取用<br/>
+     * 只会在ui线程中被操作
      */
+    private Deque<Toaster> idleToasters;
+
+    /**
+     * 使用中的消息者 集合<br/>
+     * 只会在ui线程中被操作
+     */
+    private Set<Toaster> usedToasters;
+
+    /**
+     * 最小池大小<br/>
+     * 清理时，至少保留此数量的空闲消息者
+     */
+    @Getter
     @Setter
-    @NonNull
-    private Set<Toaster> pool;
+    private int minPoolSize = 0;
 
+    /**
+     * 最大池大小<br/>
+     * 归还时，若 空闲 + 使用中 的数量超出此值，则直接销毁
+     */
+    @Getter
+    @Setter
+    private int maxPoolSize = Integer.MAX_VALUE;
 
     /**
-     * 展示中的Toaster 列表<br/>
-     * 只会在ui线程中被操作，允许使用线程不安全的实例
-     * 数量不会太多
+     * 预热数量<br/>
+     * 初始化时，预先创建此数量的消息者，并在屏幕外完成CSS应用与布局；清理时，亦会保留此数量的空闲消息者<br/>
+     * 为0时，不进行预热
      */
+    @Getter
     @Setter
-    @NonNull
-    private List<Toaster> visualToasters;
+    private int warmUpSize = 0;
+
+    /**
+     * 预热样例Node 生成器<br/>
+     * 预热时，每个消息者会装入一个样例Node，以提前加载其样式表与皮肤；为null时，只预热消息盒子
+     */
+    @Getter
+    @Setter
+    private Supplier<Node> warmUpNodeSupplier;
+
+    /**
+     * 命中次数
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 未命中次数
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 累计创建数量
+     */
+    private final LongAdder created = new LongAdder();
+
+    /**
+     * 累计销毁数量
+     */
+    private final LongAdder destroyed = new LongAdder();
+
+    /**
+     * 展示中的Toaster 登记表<br/>
+     * 只会在ui线程中被操作
+     */
+    private VisualToasterRegistry visualToasters;
+
+    /**
+     * 是否校正中<br/>
+     * 校正过程中可能因归档而再次请求校正，此时推迟至本次校正结束后执行
+     */
+    private boolean adjusting;
+
+    /**
+     * 是否存在被推迟的校正
+     */
+    private boolean adjustPending;
 
     /**
      * 弹出策略
@@ -208,8 +277,13 @@ public class ToasterFactory {
         if (this.transitionStaySupplier == null)
             this.transitionStaySupplier = () -> new ToasterTransitionProgress(0.93);
 
-        if (this.pool == null) this.pool = new HashSet<>();
-        if (this.visualToasters == null) this.visualToasters = new LinkedList<>();
+        if (this.minPoolSize < 0 || this.maxPoolSize < this.minPoolSize)
+            throw new IllegalArgumentException("pool size must 0 <= min <= max, actual : "
+                    + this.minPoolSize + ", " + this.maxPoolSize + ".");
+
+        this.idleToasters = new ArrayDeque<>();
+        this.usedToasters = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.visualToasters = new VisualToasterRegistry();
 
         if (this.popupStrategy == null)
             this.popupStrategy = new RightBottomPopupStrategy(this.multiToastFactory, Duration.seconds(0.35));
@@ -227,6 +301,53 @@ public class ToasterFactory {
 
         if (this.isUseDefaultToastTypeStyleSheets())
             this.window.getStylesheets().add(ToastTypes.DEFAULT_STYLE_SHEETS);
+
+        if (this.warmUpSize > 0) FXUtils.smartLater(this::warmUp);
+    }
+
+    /**
+     * <h2>预热</h2>
+     * <p>预先创建消息者，直至池大小达到 @warmUpSize（不超过 @maxPoolSize）</p>
+     * <p>并提前显示背景Window，使首个消息可在一帧内呈现</p>
+     */
+    private void warmUp() {
+
+        int size = Math.min(this.warmUpSize, this.maxPoolSize);
+
+        if (!this.window.isShowing()) this.window.show();
+
+        while (this.idleToasters.size() + this.usedToasters.size() < size) {
+
+            Toaster toaster = this.create();
+
+            Node node = this.warmUpNodeSupplier == null ? null : this.warmUpNodeSupplier.get();
+
+            toaster.warmUp(node, ToastTypes.INFO);
+
+            this.idleToasters.addLast(toaster);
+        }
+
+        log.debug("{} toaster is warmed up.", this.idleToasters.size());
+    }
+
+    /**
+     * <h2>得到 消息者池指标</h2>
+     * <p>必须在ui线程调用此方法</p>
+     *
+     * @return 指标快照
+     */
+    public PoolMetrics getPoolMetrics() {
+
+        FXUtils.checkFxUserThread();
+
+        return PoolMetrics.builder()
+                .idle(this.idleToasters.size())
+                .inUse(this.usedToasters.size())
+                .hits(this.hits.sum())
+                .misses(this.misses.sum())
+                .created(this.created.sum())
+                .destroyed(this.destroyed.sum())
+                .build();
     }
 
     /**
@@ -264,7 +385,7 @@ public class ToasterFactory {
 
         FXUtils.checkFxUserThread();
 
-        this.clear(this.visualToasters, this.pool);
+        this.clear(this.visualToasters, this.idleToasters, this.usedToasters);
     }
 
     /**
@@ -278,6 +399,59 @@ public class ToasterFactory {
      */
     void show(@NonNull Toast toast, int index) {
 
+        this.doShow(toast, index);
+
+        this.adjustVisualList();
+    }
+
+    /**
+     * <h2>显示</h2>
+     *
+     * <p>显示 此消息至末尾</p>
+     * <p>会校正 可见队列</p>
+     *
+     * @param toast 消息
+     */
+    void show(@NonNull Toast toast) {
+        this.show(toast, this.visualToasters.size());
+    }
+
+    /**
+     * <h2>批量显示</h2>
+     *
+     * <p>依次显示 这些消息至末尾</p>
+     * <p>全部显示后，只校正一次 可见队列</p>
+     * <p>单条消息显示失败时，不影响其余消息</p>
+     *
+     * @param toasts 消息集
+     */
+    void show(@NonNull Collection<Toast> toasts) {
+
+        for (Toast toast : toasts) {
+
+            try {
+
+                this.doShow(toast, this.visualToasters.size());
+
+            } catch (RuntimeException e) {
+                log.error("unexpected error occurred while processing show toast.", e);
+            }
+        }
+
+        this.adjustVisualList();
+    }
+
+    /**
+     * <h2>显示</h2>
+     *
+     * <p>显示 此消息至指定位置</p>
+     * <p>不会校正 可见队列</p>
+     *
+     * @param toast 消息
+     * @param index 消息所在列表的下标
+     */
+    private void doShow(@NonNull Toast toast, int index) {
+
         Toaster toaster = this.born();
 
         toaster.setToast(toast);
@@ -291,34 +465,64 @@ public class ToasterFactory {
 
         } catch (RuntimeException e) {// show失败时
 
+            this.visualToasters.remove(toaster);
+            this.usedToasters.remove(toaster);
+
             try {// 尝试重置
 
                 toaster.reset(true);
-                toaster.destroy();
+                this.destroy(toaster);
 
             } catch (RuntimeException e1) {
                 log.error("reset or destroy fail.", e1);
             }
 
-            this.visualToasters.remove(toaster);
-            this.pool.remove(toaster);
-
             throw e;
         }
-
-        this.adjustVisualList();
     }
 
     /**
-     * <h2>显示</h2>
+     * <h2>抢占</h2>
      *
-     * <p>显示 此消息至末尾</p>
-     * <p>会校正 可见队列</p>
+     * <p>可见消息者数量已达上限时，归档优先级最低、且低于此消息的消息者，为其腾出位置</p>
+     * <p>优先级相同时，归档最早展示的；多消息体不会被抢占</p>
      *
-     * @param toast 消息
+     * @param toast    即将展示的消息
+     * @param priority 优先级，排序越靠前优先级越高
+     * @param limit    可见消息者数量上限
+     * @return 是否发生抢占
      */
-    void show(@NonNull Toast toast) {
-        this.show(toast, this.visualToasters.size());
+    boolean preempt(@NonNull Toast toast, @NonNull Comparator<Toast> priority, int limit) {
+
+        FXUtils.checkFxUserThread();
+
+        // 原地遍历显示中子集，统计可见数量，并找出优先级最低的
+        List<Toaster> showing = this.visualToasters.showing();
+
+        Toaster lowest = null;
+        int count = 0;
+
+        for (int i = 0; i < showing.size(); i++) {
+
+            Toaster toaster = showing.get(i);
+
+            if (toaster.getToast() instanceof MultiToast) continue;
+
+            count++;
+
+            if (lowest == null || priority.compare(toaster.getToast(), lowest.getToast()) > 0) lowest = toaster;
+        }
+
+        if (count < limit) return false;
+
+        // 不低于此消息时，不予抢占
+        if (lowest == null || priority.compare(lowest.getToast(), toast) <= 0) return false;
+
+        log.debug("{} is preempted by {}.", lowest.getToast(), toast);
+
+        lowest.archive();
+
+        return true;
     }
 
     /**
@@ -335,33 +539,71 @@ public class ToasterFactory {
 
         this.visualToasters.remove(toaster);
 
+        this.release(toaster);
+
         // 不因归档而移除，即：超时关闭、手动关闭、触发action关闭
         if (!fromArchive) {
 
             // 消息列表 与 待显示消息列表 为空
             if (this.toastHelper.isEmpty() &&
                     (this.visualToasters.isEmpty() // 显示中的Toaster列表为空
-                            || this.visualToasters.stream().map(Toaster::getToast).noneMatch(Toast::hasDuration))// 只存在驻留
+                            || !this.visualToasters.anyMatch(it -> it.getToast().hasDuration()))// 只存在驻留
             ) this.clean();
 
             this.adjustVisualList();
         }
     }
 
+    /**
+     * <h2>标记为显示中</h2>
+     * <p>消息者进入 SHOWING 时调用</p>
+     *
+     * @param toaster 消息者
+     */
+    void markShowing(@NonNull Toaster toaster) {
+        this.visualToasters.markShowing(toaster);
+    }
+
+    /**
+     * <h2>取消 显示中标记</h2>
+     * <p>消息者离开显示状态（HIDING）时调用</p>
+     *
+     * @param toaster 消息者
+     */
+    void unmarkShowing(@NonNull Toaster toaster) {
+        this.visualToasters.unmarkShowing(toaster);
+    }
+
     /**
      * <h2>校正 可见队列</h2>
+     * <p>直接校正登记表所维护的 显示中子集，即：SHOWING、SHOWN</p>
      */
     void adjustVisualList() {
 
-        // 不为空时，才执行校正调节
-        if (!this.visualToasters.isEmpty()) {
+        // 嵌套校正时，外层仍在使用显示中子集，推迟至外层结束后再校正
+        if (this.adjusting) {
+
+            this.adjustPending = true;
+            return;
+        }
+
+        this.adjusting = true;
+
+        try {
 
-            // 只要显示中的，即：SHOWING、SHOWN
-            List<Toaster> list = this.visualToasters.stream()
-                    .filter(Toaster::isShow)
-                    .collect(Collectors.toList());
+            do {
 
-            this.popupStrategy.adjust(list);
+                this.adjustPending = false;
+
+                // 不为空时，才执行校正调节
+                if (!this.visualToasters.isEmpty()) this.popupStrategy.adjust(this.visualToasters.showing());
+
+            } while (this.adjustPending);
+
+        } finally {
+
+            this.adjustPending = false;
+            this.adjusting = false;
         }
     }
 
@@ -387,13 +629,47 @@ public class ToasterFactory {
 
         toaster.initialize();
 
-        pool.add(toaster);
+        this.created.increment();
 
-        log.trace("a new Toaster is created, toaster pool : {}.", pool.size());
+        log.trace("a new Toaster is created, toaster pool : {}.",
+                this.idleToasters.size() + this.usedToasters.size());
 
         return toaster;
     }
 
+    /**
+     * <h2>销毁一个 消息者</h2>
+     *
+     * @param toaster 消息者
+     */
+    private void destroy(Toaster toaster) {
+
+        toaster.destroy();
+
+        this.destroyed.increment();
+    }
+
+    /**
+     * <h2>归还一个 消息者</h2>
+     * <p>归还至空闲队列首；池已满时，直接销毁</p>
+     *
+     * @param toaster 消息者
+     */
+    private void release(Toaster toaster) {
+
+        // 不在使用中，或尚未空闲
+        if (!toaster.isIdle() || !this.usedToasters.remove(toaster)) return;
+
+        if (this.idleToasters.size() + this.usedToasters.size() < this.maxPoolSize) {
+
+            this.idleToasters.addFirst(toaster);
+
+        } else {
+
+            this.destroy(toaster);
+        }
+    }
+
     /**
      * <h2>生成一个 Toaster</h2>
      * <p>可能来自创建，也可能来自POOL</p>
@@ -404,13 +680,23 @@ public class ToasterFactory {
 
         FXUtils.checkFxUserThread();
 
-        Toaster toaster = this.pool.stream()
-                .filter(Toaster::isIdle)
-                .findAny()
-                .orElseGet(this::create);
+        Toaster toaster = this.idleToasters.pollFirst();
+
+        if (toaster != null) {
+
+            this.hits.increment();
+
+        } else {
+
+            this.misses.increment();
+
+            toaster = this.create();
+        }
 
         toaster.use();
 
+        this.usedToasters.add(toaster);
+
         // 判断背景Window是否处于显示中
         if (!this.window.isShowing()) this.window.show();
 
@@ -421,19 +707,25 @@ public class ToasterFactory {
      * <h2>清空指定Toasters</h2>
      *
      * @param visualToasters 可见消息者
-     * @param pool           消息者池
+     * @param idleToasters   空闲的消息者
+     * @param usedToasters   使用中的消息者
      */
-    private void clear(@NonNull List<Toaster> visualToasters, @NonNull Set<Toaster> pool) {
+    private void clear(@NonNull VisualToasterRegistry visualToasters,
+                       @NonNull Deque<Toaster> idleToasters,
+                       @NonNull Set<Toaster> usedToasters) {
 
         log.debug("{} visual toaster left, {} toaster pool left, will be force cleaned up.",
-                visualToasters.size(), pool.size());
+                visualToasters.size(), idleToasters.size() + usedToasters.size());
 
         // 重置 展示中 的Toaster，会销毁其内部的Toast、Node
         visualToasters.forEach(it -> it.reset(true));
         visualToasters.clear();
 
-        pool.forEach(Toaster::destroy);
-        pool.clear();
+        usedToasters.forEach(this::destroy);
+        usedToasters.clear();
+
+        idleToasters.forEach(this::destroy);
+        idleToasters.clear();
 
         this.window.close();
     }
@@ -442,26 +734,26 @@ public class ToasterFactory {
      * <h2>清理</h2>
      *
      * <p>空闲的Toaster，并将其销毁Toaster</p>
+     * <p>至少保留 @minPoolSize、@warmUpSize 中，较大者个空闲的Toaster</p>
      */
     private void clean() {
 
         FXUtils.checkFxUserThread();
 
-        // 待清理列表
-        List<Toaster> list = this.pool.stream().filter(Toaster::isIdle).collect(Collectors.toList());
-
-        // 移除
-        this.pool.removeAll(list);
+        int retain = Math.max(this.minPoolSize, this.warmUpSize);
+        int count = 0;
 
-        //销毁
-        list.forEach(Toaster::destroy);
+        // 从队尾（最久未使用）开始销毁
+        while (this.idleToasters.size() > retain) {
 
-        log.debug("clean: {}, {} toaster pool left.", list.size(), this.pool.size());
+            this.destroy(this.idleToasters.pollLast());
+            count++;
+        }
 
-        list.clear();
+        log.debug("clean: {}, {} toaster pool left.", count, this.idleToasters.size() + this.usedToasters.size());
 
-        // 当池中没有Toaster时，隐藏背景Window
-        if (this.pool.isEmpty()) this.window.close();
+        // 当没有使用中的Toaster时，隐藏背景Window
+        if (this.usedToasters.isEmpty()) this.window.close();
     }
 
     /**
@@ -472,16 +764,19 @@ public class ToasterFactory {
         this.screens.removeListener(this.screensInvalidationListener);
         this.screensInvalidationListener = null;
 
-        List<Toaster> visualToasters = this.visualToasters;
+        VisualToasterRegistry visualToasters = this.visualToasters;
         this.visualToasters = null;// 确保接下来的遍历不会出错
 
-        Set<Toaster> pool = this.pool;
-        this.pool = null;// 确保接下来的遍历不会出错
+        Deque<Toaster> idleToasters = this.idleToasters;
+        this.idleToasters = null;// 确保接下来的遍历不会出错
+
+        Set<Toaster> usedToasters = this.usedToasters;
+        this.usedToasters = null;// 确保接下来的遍历不会出错
 
         this.popupStrategy.onDestroy();
         this.popupStrategy = null;
 
-        this.clear(visualToasters, pool);
+        this.clear(visualToasters, idleToasters, usedToasters);
 
         this.window.getStylesheets().clear();
         this.window = null;
@@ -23,10 +23,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.model.Audio;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastState;
 import org.pomo.toasterfx.util.FXMessages;
 import org.pomo.toasterfx.util.FXUtils;
 
 import java.util.Collection;
+import java.util.concurrent.CompletionStage;
 
 /**
  * <h2>ToasterFX 服务</h2>
@@ -35,7 +37,7 @@ import java.util.Collection;
  * <br/>
  *
  * <p>创建时间：2020-09-27 16:35:06</p>
- * <p>更新时间：2020-09-27 16:35:06</p>
+ * <p>更新时间：2026-10-18 16:24:51</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -164,6 +166,20 @@ public class ToasterService {
         return this.toastHelper.push(toast);
     }
 
+    /**
+     * <h2>异步推入</h2>
+     * <p>将 消息 放入 消息队列 中，并返回其结局：SHOWN、ARCHIVE、CLOSING、DESTROY，先到者为准</p>
+     * <p>推入失败时，结局以异常完成；结局多在ui线程中完成，耗时的后续操作应使用*Async方法</p>
+     *
+     * @param toast 消息，须实现OutcomeSupport
+     * @return 结局
+     */
+    public CompletionStage<ToastState> pushAsync(@NonNull Toast toast) {
+
+        this.checkInitialize();
+        return this.toastHelper.pushAsync(toast);
+    }
+
     /**
      * <h2>推入</h2>
      * <p>将 消息 放入 消息队列 中</p>
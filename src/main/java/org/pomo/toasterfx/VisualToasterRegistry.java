@@ -0,0 +1,329 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <h2>展示中的消息者 登记表</h2>
+ *
+ * <p>基于数组，按展示顺序保存消息者，消息者自身记录其所在下标</p>
+ * <p>末尾添加、移除均为O(1)；移除时只留下空位，空位过多时再统一压缩</p>
+ * <p>同时按展示顺序维护 显示中（SHOWING、SHOWN）的子集，由消息者的状态转换增量更新</p>
+ * <p>只会在ui线程中被操作，线程不安全</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 14:02:33</p>
+ * <p>更新时间：2026-10-18 21:08:26</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+final class VisualToasterRegistry {
+
+    /**
+     * 空位数量超过此值，且超过有效数量时，进行压缩
+     */
+    private static final int COMPACT_THRESHOLD = 16;
+
+    /**
+     * 消息者数组，允许存在空位（null）
+     */
+    private Toaster[] toasters = new Toaster[16];
+
+    /**
+     * 已使用的槽位数量，含空位
+     */
+    private int end;
+
+    /**
+     * 有效的消息者数量
+     */
+    private int size;
+
+    /**
+     * 显示中的消息者，按展示顺序（即：下标递增）排列
+     */
+    private final List<Toaster> showing = new ArrayList<>();
+
+    /**
+     * <h2>得到数量</h2>
+     *
+     * @return 有效的消息者数量
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * <h2>是否为空</h2>
+     *
+     * @return 是/否
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * <h2>添加至末尾</h2>
+     *
+     * @param toaster 消息者
+     */
+    void add(@NonNull Toaster toaster) {
+
+        if (this.end == this.toasters.length) {
+
+            // 空位足够时，压缩即可腾出空间
+            if (this.end - this.size >= this.toasters.length / 2) this.compact();
+            else this.toasters = Arrays.copyOf(this.toasters, this.toasters.length << 1);
+        }
+
+        toaster.setVisualIndex(this.end);
+        this.toasters[this.end++] = toaster;
+        this.size++;
+    }
+
+    /**
+     * <h2>添加至指定位置</h2>
+     *
+     * @param index   位置，基于有效的消息者
+     * @param toaster 消息者
+     */
+    void add(int index, @NonNull Toaster toaster) {
+
+        if (index < 0 || index > this.size)
+            throw new IndexOutOfBoundsException("index : " + index + ", size : " + this.size + ".");
+
+        if (index == this.size) {
+
+            this.add(toaster);
+            return;
+        }
+
+        // 压缩后，下标即为有效位置
+        this.compact();
+
+        if (this.end == this.toasters.length)
+            this.toasters = Arrays.copyOf(this.toasters, this.toasters.length << 1);
+
+        System.arraycopy(this.toasters, index, this.toasters, index + 1, this.end - index);
+
+        this.toasters[index] = toaster;
+        this.end++;
+        this.size++;
+
+        for (int i = index; i < this.end; i++) this.toasters[i].setVisualIndex(i);
+    }
+
+    /**
+     * <h2>移除</h2>
+     *
+     * @param toaster 消息者
+     * @return 是否存在并被移除
+     */
+    boolean remove(@NonNull Toaster toaster) {
+
+        int index = toaster.getVisualIndex();
+
+        if (index < 0 || index >= this.end || this.toasters[index] != toaster) return false;
+
+        this.unmarkShowing(toaster);
+
+        this.toasters[index] = null;
+        toaster.setVisualIndex(-1);
+        this.size--;
+
+        // 回收末尾的空位
+        while (this.end > 0 && this.toasters[this.end - 1] == null) this.end--;
+
+        int holes = this.end - this.size;
+        if (holes > COMPACT_THRESHOLD && holes > this.size) this.compact();
+
+        return true;
+    }
+
+    /**
+     * <h2>标记为显示中</h2>
+     * <p>按下标插入显示中的子集，通常位于末尾；已标记时，忽略</p>
+     *
+     * @param toaster 消息者，必须已登记
+     */
+    void markShowing(@NonNull Toaster toaster) {
+
+        int index = toaster.getVisualIndex();
+
+        if (index < 0 || index >= this.end || this.toasters[index] != toaster)
+            throw new IllegalArgumentException("toaster must be registered, actual index : " + index + ".");
+
+        int position = this.indexOfShowing(index);
+
+        if (position < 0) this.showing.add(-position - 1, toaster);
+    }
+
+    /**
+     * <h2>取消 显示中标记</h2>
+     * <p>未标记时（如：已在校正中被移出），忽略</p>
+     *
+     * @param toaster 消息者
+     */
+    void unmarkShowing(@NonNull Toaster toaster) {
+
+        int index = toaster.getVisualIndex();
+
+        if (index < 0) return;
+
+        int position = this.indexOfShowing(index);
+
+        if (position >= 0 && this.showing.get(position) == toaster) this.showing.remove(position);
+    }
+
+    /**
+     * <h2>得到 显示中的消息者</h2>
+     * <p>返回所维护的子集本身，而非副本</p>
+     * <p>校正时从中移出的消息者，必须随即离开显示状态（归档）</p>
+     *
+     * @return 显示中的消息者
+     */
+    List<Toaster> showing() {
+        return this.showing;
+    }
+
+    /**
+     * <h2>二分查找 显示中的消息者</h2>
+     *
+     * @param index 消息者下标
+     * @return 所在位置；不存在时，为 -(插入位置) - 1
+     */
+    private int indexOfShowing(int index) {
+
+        int low = 0;
+        int high = this.showing.size() - 1;
+
+        while (low <= high) {
+
+            int mid = (low + high) >>> 1;
+            int midIndex = this.showing.get(mid).getVisualIndex();
+
+            if (midIndex < index) low = mid + 1;
+            else if (midIndex > index) high = mid - 1;
+            else return mid;
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * <h2>遍历</h2>
+     * <p>按展示顺序，遍历有效的消息者</p>
+     *
+     * @param action 操作
+     */
+    void forEach(@NonNull Consumer<Toaster> action) {
+
+        for (int i = 0; i < this.end; i++) {
+
+            Toaster toaster = this.toasters[i];
+
+            if (toaster != null) action.accept(toaster);
+        }
+    }
+
+    /**
+     * <h2>是否存在满足条件的消息者</h2>
+     *
+     * @param predicate 条件
+     * @return 是/否
+     */
+    boolean anyMatch(@NonNull Predicate<Toaster> predicate) {
+
+        for (int i = 0; i < this.end; i++) {
+
+            Toaster toaster = this.toasters[i];
+
+            if (toaster != null && predicate.test(toaster)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * <h2>收集满足条件的消息者</h2>
+     * <p>按展示顺序，追加至目标集合，不会产生新的集合</p>
+     *
+     * @param predicate 条件
+     * @param target    目标集合
+     */
+    void collect(@NonNull Predicate<Toaster> predicate, @NonNull List<Toaster> target) {
+
+        for (int i = 0; i < this.end; i++) {
+
+            Toaster toaster = this.toasters[i];
+
+            if (toaster != null && predicate.test(toaster)) target.add(toaster);
+        }
+    }
+
+    /**
+     * <h2>清空</h2>
+     */
+    void clear() {
+
+        for (int i = 0; i < this.end; i++) {
+
+            Toaster toaster = this.toasters[i];
+
+            if (toaster != null) toaster.setVisualIndex(-1);
+
+            this.toasters[i] = null;
+        }
+
+        this.showing.clear();
+
+        this.end = 0;
+        this.size = 0;
+    }
+
+    /**
+     * <h2>压缩</h2>
+     * <p>移除所有空位，并校正消息者的下标</p>
+     */
+    private void compact() {
+
+        if (this.end == this.size) return;
+
+        int j = 0;
+
+        for (int i = 0; i < this.end; i++) {
+
+            Toaster toaster = this.toasters[i];
+
+            if (toaster == null) continue;
+
+            toaster.setVisualIndex(j);
+            this.toasters[j++] = toaster;
+        }
+
+        Arrays.fill(this.toasters, j, this.end, null);
+
+        this.end = j;
+    }
+}
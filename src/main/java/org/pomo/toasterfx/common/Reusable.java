@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.common;
+
+/**
+ * <h2>可复用的组件</h2>
+ *
+ * <p>实现此接口的Node，在其消息体被关闭后，不会被销毁，而是回收至Node池中，待同类消息体复用</p>
+ * <p>复用时，由消息体的{@code NodeReusable}重新绑定标题、内容等</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 16:55:31</p>
+ * <p>更新时间：2026-10-18 16:55:31</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.scalable.NodeReusable
+ */
+@FunctionalInterface
+public interface Reusable {
+
+    /**
+     * <h2>回收回调</h2>
+     * <p>解除与旧消息体的所有关联，恢复至可复用的状态</p>
+     * <p>返回false时，不会被回收，而是正常销毁</p>
+     *
+     * @return 是否已回收
+     */
+    boolean onRecycle();
+}
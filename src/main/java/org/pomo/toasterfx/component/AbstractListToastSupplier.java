@@ -37,10 +37,11 @@ import java.util.function.Supplier;
  * <p>用于生成特定的：{@code ListToast}，并为其绑定action，但action的具体操作由子类实现。</p>
  * <p>提供默认的消息参数，不会自动关闭的</p>
  * <p>提供默认Node生成器，其生成：{@code ListToastBar}</p>
+ * <p>设置了归档日志时，列表消息体的消息集由日志存储</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 14:53:03</p>
- * <p>更新时间：2020-09-23 14:53:03</p>
+ * <p>更新时间：2026-10-18 17:59:47</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -80,6 +81,13 @@ public abstract class AbstractListToastSupplier implements Supplier<ListToast> {
      */
     @NonNull
     private ToastParameter parameter;
+
+    /**
+     * 归档日志，可能为null
+     */
+    @Getter
+    @Setter
+    private ToastJournal journal;
     // endregion
 
     /**
@@ -112,7 +120,9 @@ public abstract class AbstractListToastSupplier implements Supplier<ListToast> {
     @Override
     public ListToast get() {
 
-        ListToast listToast = new ListToast(this.parameter, this.toastHelper, this.nodeSupplier);
+        ListToast listToast = this.journal == null
+                ? new ListToast(this.parameter, this.toastHelper, this.nodeSupplier)
+                : new ListToast(this.parameter, this.toastHelper, this.nodeSupplier, new JournalToastList(this.journal));
         listToast.setOnAction(this::onAction);
 
         return listToast;
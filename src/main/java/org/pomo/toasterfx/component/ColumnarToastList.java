@@ -0,0 +1,648 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.ModifiableObservableListBase;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <h2>列式 消息体列表</h2>
+ *
+ * <p>以列的形式存储归档记录：long[] 创建时间、byte[] 类型、char[] 上下文（参数与重建器）、String[] 摘要、标题、内容</p>
+ * <p>类型、上下文以字典编号存储，摘要与标题经去重缓存后共享同一实例，每行无装箱、无额外对象</p>
+ * <p>上下文按引用计数，其最后一行被移除时释放编号，不再持有其参数与重建器；清空时，重置全部字典</p>
+ * <p>get(index)时才生成{@code ArchivedToast}视图，其基于值相等，因此不应以==比较</p>
+ * <p>非归档记录（含其子类，或字典已满）的消息体，按原样保存于对象列中</p>
+ * <p>按块增长，扩容时不会复制已有的行；移除首部时，整块释放</p>
+ * <p>只应在ui线程中被操作，线程不安全</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:23:05</p>
+ * <p>更新时间：2026-10-18 21:19:07</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see ArchivedToast
+ */
+public class ColumnarToastList extends ModifiableObservableListBase<Toast> implements RowRemovable {
+
+    /**
+     * 块大小的位数
+     */
+    private static final int CHUNK_SHIFT = 12;
+
+    /**
+     * 块大小（行）
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * 类型字典的最大容量（byte）
+     */
+    private static final int MAX_TYPES = 1 << 8;
+
+    /**
+     * 上下文字典的最大容量（char）
+     */
+    private static final int MAX_CONTEXTS = 1 << 16;
+
+    /**
+     * 摘要去重缓存的容量，满时清空
+     */
+    private static final int DIGEST_CACHE_CAPACITY = 4096;
+
+    /**
+     * 块列表
+     */
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    /**
+     * 首行在首块中的位置
+     */
+    private int head;
+
+    /**
+     * 行数
+     */
+    private int size;
+
+    /**
+     * 类型字典
+     */
+    private final List<ToastType> types = new ArrayList<>();
+
+    private final Map<ToastType, Integer> typeIds = new HashMap<>();
+
+    /**
+     * 上下文字典，已释放的编号处为null
+     */
+    private final List<Context> contexts = new ArrayList<>();
+
+    private final Map<Context, Integer> contextIds = new HashMap<>();
+
+    /**
+     * 各上下文编号的引用行数
+     */
+    private int[] contextRefs = new int[16];
+
+    /**
+     * 已释放、可复用的上下文编号
+     */
+    private final Deque<Integer> freeContextIds = new ArrayDeque<>();
+
+    /**
+     * 摘要、标题去重缓存
+     */
+    private final Map<String, String> digestCache = new HashMap<>();
+
+    @Override
+    public Toast get(int index) {
+
+        this.checkIndex(index, this.size);
+
+        int position = this.head + index;
+
+        return this.chunks.get(position >>> CHUNK_SHIFT).get(position & CHUNK_MASK);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * <h2>得到 上下文数量</h2>
+     *
+     * @return 仍被引用的上下文数量
+     */
+    int getContextSize() {
+        return this.contextIds.size();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof Toast)) return -1;
+
+        for (int i = 0; i < this.size; i++) if (this.matches(i, (Toast) o)) return i;
+
+        return -1;
+    }
+
+    @Override
+    public void clear() {
+
+        if (this.size == 0) return;
+
+        List<Toast> removed = new ArrayList<>(this);
+
+        this.chunks.clear();
+        this.head = 0;
+        this.size = 0;
+
+        this.types.clear();
+        this.typeIds.clear();
+        this.contexts.clear();
+        this.contextIds.clear();
+        this.contextRefs = new int[16];
+        this.freeContextIds.clear();
+        this.digestCache.clear();
+
+        this.beginChange();
+        this.nextRemove(0, removed);
+        this.endChange();
+    }
+
+    /**
+     * <p>单次遍历移除，只会产生一次变更事件</p>
+     * <p>基于值相等，相等的归档记录会被一并移除；按位置移除时，应使用removeRows</p>
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+
+        if (this.size == 0 || c.isEmpty()) return false;
+
+        BitSet removedRows = new BitSet(this.size);
+
+        for (int i = 0; i < this.size; i++) if (c.contains(this.get(i))) removedRows.set(i);
+
+        return this.removeRows(removedRows);
+    }
+
+    /**
+     * <p>单次遍历移除，只会产生一次变更事件</p>
+     * <p>被移除的行恰为首部时，仅移动首行位置</p>
+     */
+    @Override
+    public boolean removeRows(BitSet removedRows) {
+
+        if (removedRows.isEmpty()) return false;
+
+        this.checkIndex(removedRows.length() - 1, this.size);
+
+        this.beginChange();
+
+        // 由后向前，确保各段的下标不受前段移除的影响
+        int end = this.size;
+        while ((end = removedRows.previousSetBit(end - 1)) >= 0) {
+
+            int from = removedRows.previousClearBit(end) + 1;
+
+            this.nextRemove(from, new ArrayList<>(this.subList(from, end + 1)));
+
+            end = from;
+        }
+
+        for (int i = removedRows.nextSetBit(0); i >= 0; i = removedRows.nextSetBit(i + 1)) this.release(i);
+
+        int removedSize = removedRows.cardinality();
+
+        if (removedRows.nextClearBit(0) == removedSize) {
+
+            this.dropHead(removedSize);
+
+        } else {
+
+            int write = removedRows.nextSetBit(0);
+
+            for (int read = write + 1; read < this.size; read++)
+                if (!removedRows.get(read)) this.copyRow(read, write++);
+
+            this.dropTail(this.size - write);
+        }
+
+        this.endChange();
+
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, Toast element) {
+
+        this.checkIndex(index, this.size + 1);
+
+        if (this.head + this.size == this.chunks.size() << CHUNK_SHIFT) this.chunks.add(new Chunk());
+
+        // 由后向前，后移一行
+        for (int i = this.size; i > index; i--) this.copyRow(i - 1, i);
+
+        this.size++;
+
+        this.write(index, element);
+    }
+
+    @Override
+    protected Toast doSet(int index, Toast element) {
+
+        Toast old = this.get(index);
+
+        this.release(index);
+        this.write(index, element);
+
+        return old;
+    }
+
+    @Override
+    protected Toast doRemove(int index) {
+
+        Toast old = this.get(index);
+
+        this.release(index);
+
+        if (index == 0) {
+
+            this.dropHead(1);
+
+        } else {
+
+            for (int i = index; i < this.size - 1; i++) this.copyRow(i + 1, i);
+
+            this.dropTail(1);
+        }
+
+        return old;
+    }
+
+    /**
+     * <h2>写入一行</h2>
+     *
+     * @param index   下标
+     * @param element 消息体
+     */
+    private void write(int index, Toast element) {
+
+        int position = this.head + index;
+        Chunk chunk = this.chunks.get(position >>> CHUNK_SHIFT);
+        int row = position & CHUNK_MASK;
+
+        // 子类（如日志记录）有额外的身份，不可按列拆分
+        if (element != null && element.getClass() == ArchivedToast.class) {
+
+            ArchivedToast archivedToast = (ArchivedToast) element;
+
+            int typeId = this.typeId(archivedToast.getType());
+            int contextId = typeId < 0 ? -1 :
+                    this.contextId(new Context(archivedToast.getParameter(), archivedToast.getRehydrator()));
+
+            if (contextId >= 0) {
+
+                chunk.createTimes[row] = archivedToast.getCreateTime();
+                chunk.typeIds[row] = (byte) typeId;
+                chunk.contextIds[row] = (char) contextId;
+                chunk.digests[row] = this.dedupe(archivedToast.getDigest());
+                chunk.titles[row] = this.dedupe(archivedToast.getTitle());
+                chunk.contents[row] = archivedToast.getContent();
+                chunk.toasts[row] = null;
+
+                return;
+            }
+        }
+
+        // 非归档记录 或 字典已满，按原样保存
+        chunk.digests[row] = null;
+        chunk.titles[row] = null;
+        chunk.contents[row] = null;
+        chunk.toasts[row] = element;
+    }
+
+    /**
+     * <h2>复制一行</h2>
+     *
+     * @param from 源下标
+     * @param to   目标下标
+     */
+    private void copyRow(int from, int to) {
+
+        int fromPosition = this.head + from;
+        int toPosition = this.head + to;
+
+        Chunk source = this.chunks.get(fromPosition >>> CHUNK_SHIFT);
+        Chunk target = this.chunks.get(toPosition >>> CHUNK_SHIFT);
+
+        int s = fromPosition & CHUNK_MASK;
+        int t = toPosition & CHUNK_MASK;
+
+        target.createTimes[t] = source.createTimes[s];
+        target.typeIds[t] = source.typeIds[s];
+        target.contextIds[t] = source.contextIds[s];
+        target.digests[t] = source.digests[s];
+        target.titles[t] = source.titles[s];
+        target.contents[t] = source.contents[s];
+        target.toasts[t] = source.toasts[s];
+    }
+
+    /**
+     * <h2>移除首部若干行</h2>
+     * <p>整块被移除时，释放该块</p>
+     *
+     * @param count 行数
+     */
+    private void dropHead(int count) {
+
+        for (int i = 0; i < count; i++) this.clearRow(i);
+
+        this.head += count;
+        this.size -= count;
+
+        while (this.head >= CHUNK_SIZE) {
+
+            this.chunks.remove(0);
+            this.head -= CHUNK_SIZE;
+        }
+
+        if (this.size == 0) {
+
+            this.chunks.clear();
+            this.head = 0;
+        }
+    }
+
+    /**
+     * <h2>移除尾部若干行</h2>
+     * <p>释放多余的空块，至多保留一个</p>
+     *
+     * @param count 行数
+     */
+    private void dropTail(int count) {
+
+        for (int i = this.size - count; i < this.size; i++) this.clearRow(i);
+
+        this.size -= count;
+
+        int usedChunks = (this.head + this.size + CHUNK_MASK) >>> CHUNK_SHIFT;
+
+        while (this.chunks.size() > usedChunks + 1) this.chunks.remove(this.chunks.size() - 1);
+    }
+
+    /**
+     * <h2>清除一行的引用</h2>
+     *
+     * @param index 下标
+     */
+    private void clearRow(int index) {
+
+        int position = this.head + index;
+        Chunk chunk = this.chunks.get(position >>> CHUNK_SHIFT);
+        int row = position & CHUNK_MASK;
+
+        chunk.digests[row] = null;
+        chunk.titles[row] = null;
+        chunk.contents[row] = null;
+        chunk.toasts[row] = null;
+    }
+
+    /**
+     * <h2>是否匹配</h2>
+     * <p>归档记录按列比较，不生成视图</p>
+     *
+     * @param index 下标
+     * @param toast 消息体
+     * @return 是/否
+     */
+    private boolean matches(int index, Toast toast) {
+
+        int position = this.head + index;
+        Chunk chunk = this.chunks.get(position >>> CHUNK_SHIFT);
+        int row = position & CHUNK_MASK;
+
+        Toast stored = chunk.toasts[row];
+        if (stored != null) return stored.equals(toast);
+
+        if (toast == null || toast.getClass() != ArchivedToast.class) return false;
+
+        ArchivedToast archivedToast = (ArchivedToast) toast;
+        Context context = this.contexts.get(chunk.contextIds[row]);
+
+        return chunk.createTimes[row] == archivedToast.getCreateTime()
+                && this.types.get(chunk.typeIds[row] & 0xFF) == archivedToast.getType()
+                && chunk.digests[row].equals(archivedToast.getDigest())
+                && Objects.equals(chunk.titles[row], archivedToast.getTitle())
+                && Objects.equals(chunk.contents[row], archivedToast.getContent())
+                && context.parameter == archivedToast.getParameter()
+                && context.rehydrator == archivedToast.getRehydrator();
+    }
+
+    /**
+     * <h2>得到类型编号</h2>
+     *
+     * @param type 类型
+     * @return 编号，字典已满时为-1
+     */
+    private int typeId(ToastType type) {
+
+        Integer id = this.typeIds.get(type);
+        if (id != null) return id;
+
+        if (this.types.size() == MAX_TYPES) return -1;
+
+        id = this.types.size();
+        this.types.add(type);
+        this.typeIds.put(type, id);
+
+        return id;
+    }
+
+    /**
+     * <h2>得到上下文编号</h2>
+     * <p>引用计数加一，优先复用已释放的编号</p>
+     *
+     * @param context 上下文
+     * @return 编号，字典已满时为-1
+     */
+    private int contextId(Context context) {
+
+        Integer id = this.contextIds.get(context);
+
+        if (id == null) {
+
+            id = this.freeContextIds.poll();
+
+            if (id != null) {
+
+                this.contexts.set(id, context);
+
+            } else {
+
+                if (this.contexts.size() == MAX_CONTEXTS) return -1;
+
+                id = this.contexts.size();
+                this.contexts.add(context);
+
+                if (id == this.contextRefs.length) this.contextRefs = Arrays.copyOf(this.contextRefs, id << 1);
+            }
+
+            this.contextIds.put(context, id);
+        }
+
+        this.contextRefs[id]++;
+
+        return id;
+    }
+
+    /**
+     * <h2>释放一行的上下文</h2>
+     * <p>须在该行被移除或覆盖前调用；引用计数归零时，释放其编号</p>
+     *
+     * @param index 下标
+     */
+    private void release(int index) {
+
+        int position = this.head + index;
+        Chunk chunk = this.chunks.get(position >>> CHUNK_SHIFT);
+        int row = position & CHUNK_MASK;
+
+        // 对象列中的行，不引用上下文
+        if (chunk.digests[row] == null) return;
+
+        int id = chunk.contextIds[row];
+
+        if (--this.contextRefs[id] == 0) {
+
+            this.contextIds.remove(this.contexts.set(id, null));
+            this.freeContextIds.push(id);
+        }
+    }
+
+    /**
+     * <h2>文本去重</h2>
+     * <p>近期出现过的相同摘要或标题，共享同一实例</p>
+     *
+     * @param digest 摘要或标题，可能为null
+     * @return 共享的实例
+     */
+    private String dedupe(String digest) {
+
+        if (digest == null) return null;
+
+        String shared = this.digestCache.get(digest);
+        if (shared != null) return shared;
+
+        if (this.digestCache.size() == DIGEST_CACHE_CAPACITY) this.digestCache.clear();
+
+        this.digestCache.put(digest, digest);
+
+        return digest;
+    }
+
+    /**
+     * <h2>检查下标</h2>
+     *
+     * @param index 下标
+     * @param bound 上界（不含）
+     */
+    private void checkIndex(int index, int bound) {
+
+        if (index < 0 || index >= bound)
+            throw new IndexOutOfBoundsException("index : " + index + ", size : " + this.size + ".");
+    }
+
+    /**
+     * <h2>块</h2>
+     *
+     * <p>各列的一段定长数组</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 17:23:05</p>
+     * <p>更新时间：2026-10-18 17:23:05</p>
+     *
+     * @author Mr.Po
+     * @version 1.0
+     */
+    private final class Chunk {
+
+        private final long[] createTimes = new long[CHUNK_SIZE];
+
+        private final byte[] typeIds = new byte[CHUNK_SIZE];
+
+        private final char[] contextIds = new char[CHUNK_SIZE];
+
+        private final String[] digests = new String[CHUNK_SIZE];
+
+        private final String[] titles = new String[CHUNK_SIZE];
+
+        private final String[] contents = new String[CHUNK_SIZE];
+
+        /**
+         * 非归档记录时，保存原消息体
+         */
+        private final Toast[] toasts = new Toast[CHUNK_SIZE];
+
+        /**
+         * <h2>得到一行</h2>
+         *
+         * @param row 块内位置
+         * @return 消息体
+         */
+        private Toast get(int row) {
+
+            Toast toast = this.toasts[row];
+            if (toast != null) return toast;
+
+            Context context = ColumnarToastList.this.contexts.get(this.contextIds[row]);
+
+            return new ArchivedToast(this.createTimes[row], ColumnarToastList.this.types.get(this.typeIds[row] & 0xFF),
+                    this.digests[row], this.titles[row], this.contents[row], context.parameter, context.rehydrator);
+        }
+    }
+
+    /**
+     * <h2>上下文</h2>
+     *
+     * <p>参数 与 重建器 的组合，二者通常为共享实例</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 17:23:05</p>
+     * <p>更新时间：2026-10-18 17:23:05</p>
+     *
+     * @author Mr.Po
+     * @version 1.0
+     */
+    private static final class Context {
+
+        private final ToastParameter parameter;
+
+        private final Function<ArchivedToast, ? extends Toast> rehydrator;
+
+        private Context(ToastParameter parameter, Function<ArchivedToast, ? extends Toast> rehydrator) {
+            this.parameter = parameter;
+            this.rehydrator = rehydrator;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (!(o instanceof Context)) return false;
+
+            Context that = (Context) o;
+
+            return this.parameter == that.parameter && this.rehydrator == that.rehydrator;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.parameter) + System.identityHashCode(this.rehydrator);
+        }
+    }
+}
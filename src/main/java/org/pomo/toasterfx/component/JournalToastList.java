@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.ModifiableObservableListBase;
+import lombok.Getter;
+import lombok.NonNull;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.impl.JournaledToast;
+import org.pomo.toasterfx.model.scalable.DigestSupport;
+import org.pomo.toasterfx.model.scalable.TextSupport;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <h2>日志消息列表</h2>
+ *
+ * <p>以归档日志为存储的可观察列表，不在堆中保存记录，get(index)时才从日志中读取</p>
+ * <p>只保存已删除行的行号，get(index)、indexOf(日志记录)均为O(log 已删除行数)</p>
+ * <p>只能在末尾添加，加入的消息体按其摘要、标题、内容写入日志，之后不再被引用</p>
+ * <p>不支持set；removeAll、removeRows、clear只会产生一次变更事件</p>
+ * <p>只应在ui线程中被操作，线程不安全</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:52:16</p>
+ * <p>更新时间：2026-10-18 20:52:37</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see ToastJournal
+ */
+public class JournalToastList extends ModifiableObservableListBase<Toast> implements RowRemovable {
+
+    /**
+     * 归档日志
+     */
+    @Getter
+    private final ToastJournal journal;
+
+    /**
+     * 首行之后，已删除的行号，升序
+     */
+    private long[] holes;
+
+    private int holeSize;
+
+    public JournalToastList(@NonNull ToastJournal journal) {
+
+        this.journal = journal;
+        this.holes = journal.removedRows();
+        this.holeSize = this.holes.length;
+    }
+
+    @Override
+    public Toast get(int index) {
+
+        this.checkIndex(index, this.size());
+
+        return this.journal.read(rowOf(this.journal.getHead(), this.holes, this.holeSize, index));
+    }
+
+    @Override
+    public int size() {
+        return (int) (this.journal.size() - this.journal.getHead() - this.holeSize);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof JournaledToast)) return -1;
+
+        JournaledToast toast = (JournaledToast) o;
+
+        if (toast.getJournal() != this.journal) return -1;
+
+        long row = toast.getRow();
+
+        if (row >= this.journal.size() || this.journal.isRemoved(row)) return -1;
+
+        return this.indexOfRow(row);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return this.indexOf(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+
+        long[] rows = c.stream()
+                .filter(it -> this.indexOf(it) >= 0)
+                .mapToLong(it -> ((JournaledToast) it).getRow())
+                .distinct()
+                .sorted()
+                .toArray();
+
+        return this.removeRows(rows);
+    }
+
+    @Override
+    public boolean removeRows(BitSet indexes) {
+
+        if (indexes.isEmpty()) return false;
+
+        this.checkIndex(indexes.length() - 1, this.size());
+
+        long head = this.journal.getHead();
+
+        long[] rows = indexes.stream().mapToLong(it -> rowOf(head, this.holes, this.holeSize, it)).toArray();
+
+        return this.removeRows(rows);
+    }
+
+    /**
+     * <h2>删除行</h2>
+     * <p>日志一次性删除全部行，空洞单次合并；只产生一次变更事件，连续的行合为一段</p>
+     *
+     * @param rows 未删除的行号，升序
+     * @return 是否有行被删除
+     */
+    private boolean removeRows(long[] rows) {
+
+        if (rows.length == 0) return false;
+
+        // 删除前的下标
+        int[] indexes = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) indexes[i] = this.indexOfRow(rows[i]);
+
+        this.journal.remove(rows);
+        this.mergeHoles(rows);
+
+        this.beginChange();
+
+        // 自后向前，先产生的变更下标不受影响；被删除的行在下一次追加前仍可读取
+        for (int end = rows.length - 1; end >= 0; ) {
+
+            int from = end;
+            while (from > 0 && indexes[from - 1] == indexes[from] - 1) from--;
+
+            List<Toast> toasts = new ArrayList<>(end - from + 1);
+            for (int i = from; i <= end; i++) toasts.add(this.journal.read(rows[i]));
+
+            this.nextRemove(indexes[from], toasts);
+
+            end = from - 1;
+        }
+
+        this.endChange();
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+
+        int size = this.size();
+
+        if (size == 0) return;
+
+        long head = this.journal.getHead();
+        long[] holes = this.holes;
+        int holeSize = this.holeSize;
+
+        this.journal.clear();
+        this.holes = new long[0];
+        this.holeSize = 0;
+
+        this.beginChange();
+
+        // 被删除的行在下一次追加前仍可读取，此处不必全部读出
+        this.nextRemove(0, new AbstractList<Toast>() {
+
+            @Override
+            public Toast get(int index) {
+                return JournalToastList.this.journal.read(rowOf(head, holes, holeSize, index));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        });
+
+        this.endChange();
+    }
+
+    @Override
+    protected void doAdd(int index, @NonNull Toast toast) {
+
+        if (index != this.size())
+            throw new UnsupportedOperationException("journal only supports append, index : " + index
+                    + ", size : " + this.size() + ".");
+
+        String digest = toast instanceof DigestSupport ? ((DigestSupport) toast).getDigest() : null;
+        if (digest == null) digest = String.valueOf(toast);
+
+        String title = null;
+        String content = null;
+
+        if (toast instanceof TextSupport) {
+
+            title = ((TextSupport) toast).getTitle();
+            content = ((TextSupport) toast).getContent();
+        }
+
+        this.journal.append(toast.getCreateTime(), toast.getType(), digest, title,
+                content == null ? digest : content);
+    }
+
+    @Override
+    protected Toast doSet(int index, Toast element) {
+        throw new UnsupportedOperationException("journal not supports set.");
+    }
+
+    @Override
+    protected Toast doRemove(int index) {
+
+        this.checkIndex(index, this.size());
+
+        long row = rowOf(this.journal.getHead(), this.holes, this.holeSize, index);
+
+        Toast toast = this.journal.read(row);
+
+        this.journal.remove(row);
+        this.mergeHoles(new long[]{row});
+
+        return toast;
+    }
+
+    /**
+     * <h2>合并空洞</h2>
+     * <p>自后向前原地归并已有空洞与新删除的行，再丢弃首行之前的，O(空洞数 + 新删除行数)</p>
+     *
+     * @param rows 新删除的行号，升序
+     */
+    private void mergeHoles(long[] rows) {
+
+        int total = this.holeSize + rows.length;
+
+        if (total > this.holes.length)
+            this.holes = Arrays.copyOf(this.holes, Math.max(16, Math.max(total, this.holes.length << 1)));
+
+        for (int i = this.holeSize - 1, j = rows.length - 1, k = total - 1; j >= 0; k--)
+            this.holes[k] = i >= 0 && this.holes[i] > rows[j] ? this.holes[i--] : rows[j--];
+
+        int from = Arrays.binarySearch(this.holes, 0, total, this.journal.getHead());
+        if (from < 0) from = -from - 1;
+
+        if (from > 0) System.arraycopy(this.holes, from, this.holes, 0, total - from);
+
+        this.holeSize = total - from;
+    }
+
+    /**
+     * <h2>得到 行的下标</h2>
+     *
+     * @param row 未删除的行号
+     * @return 下标
+     */
+    private int indexOfRow(long row) {
+
+        int before = -Arrays.binarySearch(this.holes, 0, this.holeSize, row) - 1;
+
+        return (int) (row - this.journal.getHead() - before);
+    }
+
+    /**
+     * <h2>得到 下标所在的行</h2>
+     * <p>第p个空洞之前的存活行数为：holes[p] - head - p，其随p单调不减</p>
+     * <p>二分出存活行数不超过index的空洞个数，即为需跳过的行数</p>
+     *
+     * @param head     首行号
+     * @param holes    已删除的行号
+     * @param holeSize 已删除的行数
+     * @param index    下标
+     * @return 行号
+     */
+    private static long rowOf(long head, long[] holes, int holeSize, int index) {
+
+        int low = 0, high = holeSize;
+
+        while (low < high) {
+
+            int mid = (low + high) >>> 1;
+
+            if (holes[mid] - head - mid <= index) low = mid + 1;
+            else high = mid;
+        }
+
+        return head + index + low;
+    }
+
+    private void checkIndex(int index, int bound) {
+
+        if (index < 0 || index >= bound)
+            throw new IndexOutOfBoundsException("index : " + index + ", size : " + this.size() + ".");
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.pomo.toasterfx.model.OverflowPolicy;
+import org.pomo.toasterfx.model.Toast;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * <h2>消息体 - 优先级队列</h2>
+ *
+ * <p>按优先级划分为多条通道，每条通道为一个{@link ToastRingBuffer}，入队、出队均为O(1)</p>
+ * <p>出队时，总是先取优先级最高的通道；同一通道内保持先进先出</p>
+ * <p>各通道共享总容量，已满时，移出 不高于入队消息体 的最低非空通道中最旧的消息体，并交由溢出回调归档</p>
+ * <p>即：优先归档低优先级的消息体；仅当更低的通道均为空时，才移出同一通道的；均为更高优先级时，归档入队的消息体自身</p>
+ * <p>阻塞式的take、poll(timeout)，仅允许单个消费线程调用</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 15:12:40</p>
+ * <p>更新时间：2026-10-18 19:48:16</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.ToastHandler#setPriority(Comparator)
+ */
+@Slf4j
+public class PriorityToastQueue extends AbstractQueue<Toast> implements BlockingQueue<Toast> {
+
+    // region {成员属性}
+    /**
+     * 通道，下标越大优先级越高
+     */
+    private final ToastRingBuffer[] lanes;
+
+    /**
+     * 通道选择器<br/>
+     * 返回值会被限制在[0, 通道数量)之间
+     */
+    private final ToIntFunction<Toast> laneSelector;
+
+    /**
+     * 总容量，各通道共享
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 已占用的额度<br/>
+     * 入队前占用，出队后释放；溢出时，被移出消息体的额度直接转交入队的消息体
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * 溢出回调<br/>
+     * 被移出的消息体会交由此回调处理
+     */
+    @Setter
+    private Consumer<Toast> onOverflow;
+    // endregion
+
+    /**
+     * @param lanes        通道数量
+     * @param capacity     总容量
+     * @param laneSelector 通道选择器，值越大优先级越高
+     */
+    public PriorityToastQueue(int lanes, int capacity, @NonNull ToIntFunction<Toast> laneSelector) {
+
+        if (lanes <= 0)
+            throw new IllegalArgumentException("lanes must greater than 0, actual : " + lanes + ".");
+
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("capacity must in (0, 2^30], actual : " + capacity + ".");
+
+        this.lanes = new ToastRingBuffer[lanes];
+
+        // 每条通道均可容纳全部额度，额度由count控制，故通道本身不会真正阻塞
+        for (int i = 0; i < lanes; i++)
+            this.lanes[i] = new ToastRingBuffer(capacity, OverflowPolicy.BLOCK);
+
+        this.capacity = capacity;
+        this.laneSelector = laneSelector;
+    }
+
+    /**
+     * <p>以消息类型的严重程度选择通道</p>
+     *
+     * @param capacity 总容量
+     */
+    public PriorityToastQueue(int capacity) {
+        this(4, capacity, it -> it.getType().getSeverity());
+    }
+
+    /**
+     * <h2>得到 通道数量</h2>
+     *
+     * @return 通道数量
+     */
+    public int getLanes() {
+        return this.lanes.length;
+    }
+
+    /**
+     * <h2>推入</h2>
+     * <p>已满时，归档最低优先级的消息体，总是成功</p>
+     *
+     * @param toast 消息体
+     * @return true
+     */
+    @Override
+    public boolean offer(@NonNull Toast toast) {
+
+        int lane = this.laneOf(toast);
+
+        while (true) {
+
+            int count = this.count.get();
+
+            // 占用一个额度
+            if (count < this.capacity) {
+
+                if (this.count.compareAndSet(count, count + 1)) break;
+
+                continue;
+            }
+
+            // 已满，移出不高于此通道的最低优先级消息体，并接管其额度
+            Toast evicted = this.pollLowest(lane);
+
+            if (evicted != null) {
+
+                this.overflow(evicted);
+                break;
+            }
+
+            // 其余消息体均为更高优先级（或正被并发取走），再次确认后，归档自身
+            if (this.count.get() >= this.capacity) {
+
+                this.overflow(toast);
+                return true;
+            }
+        }
+
+        this.lanes[lane].offer(toast);
+
+        return true;
+    }
+
+    @Override
+    public void put(@NonNull Toast toast) {
+        this.offer(toast);
+    }
+
+    @Override
+    public boolean offer(@NonNull Toast toast, long timeout, @NonNull TimeUnit unit) {
+        return this.offer(toast);
+    }
+
+    @Override
+    public Toast poll() {
+
+        for (int i = this.lanes.length - 1; i >= 0; i--) {
+
+            Toast toast = this.lanes[i].poll();
+
+            if (toast != null) {
+
+                this.count.decrementAndGet();
+                return toast;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public Toast take() throws InterruptedException {
+
+        Toast toast;
+        int spins = 0;
+
+        while ((toast = this.poll()) == null) {
+
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            this.backOff(spins++);
+        }
+
+        return toast;
+    }
+
+    @Override
+    public Toast poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        Toast toast;
+        int spins = 0;
+
+        while ((toast = this.poll()) == null) {
+
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            if (deadline - System.nanoTime() <= 0) return null;
+
+            this.backOff(spins++);
+        }
+
+        return toast;
+    }
+
+    @Override
+    public Toast peek() {
+
+        for (int i = this.lanes.length - 1; i >= 0; i--) {
+
+            Toast toast = this.lanes[i].peek();
+
+            if (toast != null) return toast;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int size() {
+
+        int size = 0;
+
+        for (ToastRingBuffer lane : this.lanes) size += lane.size();
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        for (ToastRingBuffer lane : this.lanes) if (!lane.isEmpty()) return false;
+
+        return true;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, this.capacity - this.count.get());
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Toast> collection) {
+        return this.drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Toast> collection, int maxElements) {
+
+        if (collection == this) throw new IllegalArgumentException("can not drain to self.");
+
+        int count = 0;
+
+        for (int i = this.lanes.length - 1; i >= 0 && count < maxElements; i--)
+            count += this.lanes[i].drainTo(collection, maxElements - count);
+
+        if (count > 0) this.count.addAndGet(-count);
+
+        return count;
+    }
+
+    /**
+     * <h2>得到迭代器</h2>
+     * <p>基于快照，按优先级从高到低，弱一致性，不支持remove</p>
+     *
+     * @return 迭代器
+     */
+    @Override
+    public Iterator<Toast> iterator() {
+
+        List<Toast> snapshot = new ArrayList<>();
+
+        for (int i = this.lanes.length - 1; i >= 0; i--) this.lanes[i].forEach(snapshot::add);
+
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    /**
+     * <h2>取出 最低优先级的消息体</h2>
+     * <p>从最低的通道开始，至多到@lane（含），取出首个非空通道中最旧的消息体</p>
+     *
+     * @param lane 通道上界（含）
+     * @return 消息体，均为空时返回null
+     */
+    private Toast pollLowest(int lane) {
+
+        for (int i = 0; i <= lane; i++) {
+
+            Toast toast = this.lanes[i].poll();
+
+            if (toast != null) return toast;
+        }
+
+        return null;
+    }
+
+    /**
+     * <h2>溢出</h2>
+     *
+     * @param toast 被移出的消息体
+     */
+    private void overflow(Toast toast) {
+
+        Consumer<Toast> onOverflow = this.onOverflow;
+
+        if (onOverflow != null) onOverflow.accept(toast);
+        else log.warn("priority toast queue is full, {} is dropped.", toast);
+    }
+
+    /**
+     * <h2>得到 消息体所在的通道</h2>
+     *
+     * @param toast 消息体
+     * @return 通道下标
+     */
+    private int laneOf(Toast toast) {
+        return Math.max(0, Math.min(this.lanes.length - 1, this.laneSelector.applyAsInt(toast)));
+    }
+
+    /**
+     * <h2>退避</h2>
+     *
+     * @param spins 已自旋次数
+     */
+    private void backOff(int spins) {
+
+        if (spins < 64) Thread.yield();
+        else LockSupport.parkNanos(this, 100_000L);
+    }
+}
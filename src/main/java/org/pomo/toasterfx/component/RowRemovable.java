@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import java.util.BitSet;
+
+/**
+ * <h2>可按下标批量移除</h2>
+ *
+ * <p>实现此接口的列表，可按下标一次性移除多行，只产生一次变更事件</p>
+ * <p>不依赖元素的相等性，适用于按需生成视图、基于值相等的列表</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 20:16:40</p>
+ * <p>更新时间：2026-10-18 20:16:40</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see ColumnarToastList
+ * @see JournalToastList
+ */
+public interface RowRemovable {
+
+    /**
+     * <h2>按下标移除</h2>
+     *
+     * @param rows 待移除的下标，不得超出列表大小
+     * @return 是否有行被移除
+     */
+    boolean removeRows(BitSet rows);
+}
@@ -18,19 +18,18 @@ package org.pomo.toasterfx.component;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 /**
  * <h2>简单的 - 摘要计算器</h2>
  * <p>可定制摘要长度、多段文本的连接符、省略文本</p>
  * <p>默认的构造函数，提供不限长度、\t、...</p>
+ * <p>单次遍历：边连接边将换行替换为连接符，达到长度限制后立即停止，不复制其余文本</p>
+ * <p>复用线程本地的缓冲区，超出{@value #MAX_RETAINED_CAPACITY}个字符的不予保留</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 15:04:46</p>
- * <p>更新时间：2020-09-23 15:04:46</p>
+ * <p>更新时间：2026-10-18 18:58:12</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -38,6 +37,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SimpleDigestCalculator implements BiFunction<String, String, String> {
 
+    /**
+     * 缓冲区 最大保留容量
+     */
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    /**
+     * 线程本地的缓冲区
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
     /**
      * 摘要长度
      */
@@ -81,14 +90,75 @@ public class SimpleDigestCalculator implements BiFunction<String, String, String
      */
     protected String calculateDigest(Integer len, @NonNull String delimiter, @NonNull String... contents) {
 
-        String digest = Arrays.stream(contents)
-                .filter(Objects::nonNull)
-                .collect(Collectors.joining(delimiter))
-                .replace("\n", delimiter);
+        // 超出此长度时截断
+        long limit = len == null ? Long.MAX_VALUE - 1 : len;
+
+        // 连接符中的换行，同样会被替换
+        String separator = delimiter.indexOf('\n') < 0 ? delimiter : delimiter.replace("\n", delimiter);
+
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+
+        boolean exceeded = false;
+        boolean first = true;
+
+        for (int i = 0; i < contents.length && !exceeded; i++) {
+
+            String content = contents[i];
+
+            if (content == null) continue;
+
+            if (!first) exceeded = append(builder, separator, 0, separator.length(), limit);
+            first = false;
+
+            // 逐段追加换行之间的文本
+            for (int from = 0, to; !exceeded && from <= content.length(); from = to + 1) {
+
+                to = content.indexOf('\n', from);
+                if (to < 0) to = content.length();
 
-        if (len != null && digest.length() > len)
-            digest = digest.substring(0, len) + this.ellipsisString;
+                exceeded = append(builder, content, from, to, limit);
+
+                if (!exceeded && to < content.length())
+                    exceeded = append(builder, delimiter, 0, delimiter.length(), limit);
+            }
+        }
+
+        if (exceeded) {
+
+            builder.setLength((int) limit);
+            builder.append(this.ellipsisString);
+        }
+
+        String digest = builder.toString();
+
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) BUFFER.remove();
 
         return digest;
     }
+
+    /**
+     * <h2>追加</h2>
+     * <p>至多追加至 limit + 1 个字符，足以判断是否超出</p>
+     *
+     * @param builder 缓冲区
+     * @param text    文本
+     * @param from    起始下标（含）
+     * @param to      结束下标（不含）
+     * @param limit   长度限制
+     * @return 是否已超出长度限制
+     */
+    private static boolean append(StringBuilder builder, String text, int from, int to, long limit) {
+
+        long room = limit + 1 - builder.length();
+
+        if (to - from >= room) {
+
+            builder.append(text, from, from + (int) room);
+            return true;
+        }
+
+        builder.append(text, from, to);
+        return false;
+    }
 }
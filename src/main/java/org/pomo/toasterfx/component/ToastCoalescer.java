@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.scalable.DigestSupport;
+import org.pomo.toasterfx.model.scalable.OccurrenceSupport;
+import org.pomo.toasterfx.util.FXUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>消息体 合并器</h2>
+ *
+ * <p>以 消息类型 + 摘要 为索引，在时间窗口内，将重复的消息体合并至首个仍存活的消息体中</p>
+ * <p>被合并的消息体不会被展示、归档，只累加存活消息体的出现次数，并刷新其最后出现时间</p>
+ * <p>时间窗口自最后一次出现起计算；存活消息体被关闭、归档或销毁后，下一条重复消息体会重新展示</p>
+ * <p>仅合并同时实现了{@code DigestSupport}与{@code OccurrenceSupport}的消息体，此类是线程安全的</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 15:41:09</p>
+ * <p>更新时间：2026-10-18 21:27:45</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see DigestSupport
+ * @see OccurrenceSupport
+ */
+@Slf4j
+public class ToastCoalescer {
+
+    /**
+     * 时间窗口
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private Duration window = Duration.seconds(30);
+
+    /**
+     * 存活的出现记录，key：消息类型 + 摘要
+     */
+    private final ConcurrentHashMap<String, Occurrence> occurrences = new ConcurrentHashMap<>();
+
+    /**
+     * <h2>合并</h2>
+     *
+     * @param toast 消息体
+     * @return 是否已被合并，为true时，此消息体不应再被展示
+     */
+    public boolean coalesce(@NonNull Toast toast) {
+
+        if (!(toast instanceof DigestSupport) || !(toast instanceof OccurrenceSupport)) return false;
+
+        String digest = ((DigestSupport) toast).getDigest();
+
+        if (digest == null) return false;
+
+        String key = toast.getType().getName() + '\n' + digest;
+
+        long now = System.currentTimeMillis();
+        long window = (long) this.window.toMillis();
+
+        Occurrence occurrence = this.occurrences.compute(key, (k, it) -> {
+
+            if (it != null && it.live && now - it.lastSeenTime <= window) {
+
+                it.lastSeenTime = now;
+                return it;
+            }
+
+            return new Occurrence(k, toast, now);
+        });
+
+        if (occurrence.toast == toast) return false;
+
+        occurrence.occur();
+
+        return true;
+    }
+
+    /**
+     * <h2>得到 存活的出现记录数量</h2>
+     *
+     * @return 数量
+     */
+    public int size() {
+        return this.occurrences.size();
+    }
+
+    /**
+     * <h2>清空</h2>
+     * <p>此后的消息体，均会重新展示</p>
+     */
+    public void clear() {
+
+        this.occurrences.values().forEach(it -> it.live = false);
+        this.occurrences.clear();
+    }
+
+    /**
+     * <h2>出现记录</h2>
+     */
+    private class Occurrence implements ChangeListener<ToastState> {
+
+        /**
+         * 索引
+         */
+        private final String key;
+
+        /**
+         * 存活的消息体
+         */
+        private final Toast toast;
+
+        /**
+         * 最后出现时间
+         */
+        private volatile long lastSeenTime;
+
+        /**
+         * 是否存活，消息体被关闭、归档或销毁后，不再存活
+         */
+        private volatile boolean live = true;
+
+        /**
+         * 尚未同步至ui的出现次数
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Occurrence(String key, Toast toast, long now) {
+
+            this.key = key;
+            this.toast = toast;
+            this.lastSeenTime = now;
+
+            // 此时消息体尚未被推入，可安全注册
+            toast.getStateProperty().addListener(this);
+        }
+
+        /**
+         * <h2>出现一次</h2>
+         * <p>同步前的多次出现，只会向ui线程提交一次</p>
+         */
+        private void occur() {
+            if (this.pending.getAndIncrement() == 0) FXUtils.pulseLater(this::flush);
+        }
+
+        /**
+         * <h2>同步出现次数至消息体</h2>
+         */
+        private void flush() {
+
+            int count = this.pending.getAndSet(0);
+
+            if (count > 0 && this.live)
+                ((OccurrenceSupport) this.toast).occur(count, this.lastSeenTime);
+        }
+
+        @Override
+        public void changed(ObservableValue<? extends ToastState> observable,
+                            ToastState oldValue, ToastState newValue) {
+
+            // 归档同样结束了存活期，此后的重复消息体不应累加至归档中的消息体
+            if (newValue == ToastState.CLOSING || newValue == ToastState.ARCHIVE
+                    || newValue == ToastState.DESTROY) {
+
+                this.live = false;
+
+                observable.removeListener(this);
+                ToastCoalescer.this.occurrences.remove(this.key, this);
+
+                log.trace("occurrence of {} is expired.", this.toast);
+            }
+        }
+    }
+}
@@ -0,0 +1,722 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.JournaledToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <h2>归档日志</h2>
+ *
+ * <p>以内存映射文件追加保存归档消息的：创建时间、类型、摘要、标题、内容</p>
+ * <p>数据写入定长的数据段（*.seg），写满后滚动到下一段</p>
+ * <p>每行在索引块（*.idx）中占8字节，记录其所在的段与偏移，按行号读取为O(1)</p>
+ * <p>启动时只映射已有文件，不解析记录；行数由最后一个索引块二分得出</p>
+ * <p>删除只修改索引：首行被删除时前移首行，否则标记为已删除；整段位于首行之前时，在下一次追加时回收其文件</p>
+ * <p>只回收首行之前的文件：自中部删除的行（如：按严重程度淘汰），在首行越过它们之前，仍占用磁盘</p>
+ * <p>因此，只有自首部淘汰（最早优先、存活时间）时，磁盘占用才受归档容量约束</p>
+ * <p>只应在ui线程中被操作，线程不安全</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:41:33</p>
+ * <p>更新时间：2026-10-18 20:52:37</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see JournalToastList
+ */
+@Slf4j
+public class ToastJournal {
+
+    /**
+     * 默认数据段大小：8M
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 8 << 20;
+
+    /**
+     * 最小数据段大小：4K
+     */
+    private static final int MIN_SEGMENT_SIZE = 4 << 10;
+
+    private static final int INDEX_SHIFT = 16;
+
+    /**
+     * 每个索引块的行数
+     */
+    private static final int INDEX_ROWS = 1 << INDEX_SHIFT;
+
+    private static final int INDEX_MASK = INDEX_ROWS - 1;
+
+    /**
+     * 索引项中的删除标记
+     */
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * 元数据文件：首行号、已删除行数
+     */
+    private static final String META_NAME = "journal.meta";
+
+    private static final int META_SIZE = 16;
+
+    /**
+     * 内置的消息类型，以名称索引
+     */
+    private static final Map<String, ToastType> DEFAULT_TYPES = new HashMap<>();
+
+    static {
+        for (ToastTypes type : ToastTypes.values()) DEFAULT_TYPES.put(type.getName(), type);
+    }
+
+    // region {成员属性}
+    /**
+     * 日志目录
+     */
+    @Getter
+    private final Path directory;
+
+    /**
+     * 数据段大小，单条记录不可超出此值
+     */
+    @Getter
+    @Setter
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    /**
+     * 消息类型 解析器<br/>
+     * 以名称解析消息类型，默认只解析ToastTypes；无法解析时，视为ToastTypes.INFO
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private Function<String, ToastType> typeResolver;
+
+    /**
+     * 读出记录的消息参数
+     */
+    @Getter
+    @Setter
+    @NonNull
+    private ToastParameter parameter;
+
+    /**
+     * 读出记录的重建器，可能为null
+     */
+    @Getter
+    @Setter
+    private Function<ArchivedToast, ? extends Toast> rehydrator;
+    // endregion
+
+    // region {成员变量}
+    /**
+     * 已映射的数据段，首个的段号为segmentBase
+     */
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    private int segmentBase;
+
+    /**
+     * 已映射的索引块，首个的块号为indexBase
+     */
+    private final List<MappedByteBuffer> indexes = new ArrayList<>();
+
+    private int indexBase;
+
+    private MappedByteBuffer meta;
+
+    /**
+     * 已回收但暂未能删除的文件，下次回收时重试
+     */
+    private final List<Path> undeletedFiles = new ArrayList<>();
+
+    /**
+     * 首行号，之前的行均已删除
+     */
+    @Getter
+    private long head;
+
+    /**
+     * 总行数（含已删除的）
+     */
+    private long size;
+
+    /**
+     * 首行之后，被标记为删除的行数
+     */
+    @Getter
+    private long removedCount;
+
+    /**
+     * 最后一个数据段的写入位置
+     */
+    private int position;
+    // endregion
+
+    public ToastJournal(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * <h2>初始化</h2>
+     * <p>映射已有的数据段、索引块，不解析其中的记录</p>
+     */
+    public void initialize() {
+
+        if (this.meta != null) return;
+
+        Objects.requireNonNull(this.parameter, "parameter must non-null but is null.");
+
+        if (this.segmentSize < MIN_SEGMENT_SIZE)
+            throw new IllegalArgumentException("segmentSize must greater than or equal " + MIN_SEGMENT_SIZE
+                    + ", actual : " + this.segmentSize + ".");
+
+        if (this.typeResolver == null) this.typeResolver = DEFAULT_TYPES::get;
+
+        try {
+
+            Files.createDirectories(this.directory);
+
+            this.meta = map(this.directory.resolve(META_NAME), META_SIZE);
+            this.head = this.meta.getLong(0);
+            this.removedCount = this.meta.getLong(8);
+
+            this.segmentBase = this.mapAll(SEGMENT_SUFFIX, path -> {
+                this.segments.add(map(path, (int) Files.size(path)));
+            });
+
+            this.indexBase = this.mapAll(INDEX_SUFFIX, path -> {
+                this.indexes.add(map(path, INDEX_ROWS * Long.BYTES));
+            });
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!this.indexes.isEmpty()) {
+
+            int lastIndex = this.indexBase + this.indexes.size() - 1;
+
+            this.size = ((long) lastIndex << INDEX_SHIFT) + committed(this.indexes.get(this.indexes.size() - 1));
+        }
+
+        if (this.size > 0) {
+
+            long entry = this.entry(this.size - 1);
+            int segment = segmentOf(entry);
+
+            // 最后一个数据段可能为刚滚动出的空段
+            if (segment == this.segmentBase + this.segments.size() - 1) {
+
+                int offset = (int) entry;
+                this.position = offset + Integer.BYTES + this.segments.get(segment - this.segmentBase).getInt(offset);
+            }
+        }
+
+        if (this.head > this.size) {
+
+            log.warn("journal {} head {} exceeds size {}, reset.", this.directory, this.head, this.size);
+
+            this.head = this.size;
+            this.removedCount = 0;
+            this.writeMeta();
+        }
+
+        // 首行之前的文件可能残留或缺失，首行所在的文件不得缺失
+        if (this.head < this.size && ((int) (this.head >>> INDEX_SHIFT) < this.indexBase
+                || segmentOf(this.entry(this.head)) < this.segmentBase))
+            throw new IllegalStateException("journal " + this.directory + " missing files of head row "
+                    + this.head + ".");
+
+        log.debug("journal {} is mapped, {} segments, {} rows from {}.",
+                this.directory, this.segments.size(), this.size, this.head);
+    }
+
+    /**
+     * <h2>追加</h2>
+     *
+     * @param createTime 创建时间
+     * @param type       类型
+     * @param digest     摘要
+     * @param title      标题
+     * @param content    内容
+     * @return 行号
+     */
+    public long append(long createTime, @NonNull ToastType type, @NonNull String digest,
+                       String title, String content) {
+
+        this.checkInitialize();
+
+        byte[][] texts = {bytes(type.getName()), bytes(digest), bytes(title), bytes(content)};
+
+        // 长度之后的字节数
+        int length = Long.BYTES;
+        for (byte[] text : texts) length += Integer.BYTES + (text == null ? 0 : text.length);
+
+        int recordSize = Integer.BYTES + length;
+
+        if (recordSize > this.segmentSize)
+            throw new IllegalArgumentException("toast of size " + recordSize + " exceeds segmentSize "
+                    + this.segmentSize + ".");
+
+        this.reclaim();
+
+        if (this.segments.isEmpty() || this.position + recordSize > this.lastSegment().capacity()) this.rotate();
+
+        int segment = this.segmentBase + this.segments.size() - 1;
+        int offset = this.position;
+
+        ByteBuffer buffer = this.lastSegment().duplicate();
+        buffer.position(offset);
+
+        buffer.putInt(length);
+        buffer.putLong(createTime);
+
+        for (byte[] text : texts) {
+
+            if (text == null) buffer.putInt(-1);
+            else buffer.putInt(text.length).put(text);
+        }
+
+        this.position = buffer.position();
+
+        // 数据写入后，再写索引
+        long row = this.size;
+        this.index(row, true).putLong(slot(row), ((long) (segment + 1) << 32) | offset);
+        this.size++;
+
+        return row;
+    }
+
+    /**
+     * <h2>读取</h2>
+     * <p>每次读取都会生成新的视图</p>
+     *
+     * @param row 行号
+     * @return 日志记录
+     */
+    public JournaledToast read(long row) {
+
+        this.checkInitialize();
+
+        long entry = this.entry(row);
+
+        ByteBuffer buffer = this.segments.get(segmentOf(entry) - this.segmentBase).duplicate();
+        buffer.position((int) entry + Integer.BYTES);
+
+        long createTime = buffer.getLong();
+
+        String typeName = text(buffer);
+        String digest = text(buffer);
+        String title = text(buffer);
+        String content = text(buffer);
+
+        ToastType type = this.typeResolver.apply(typeName);
+        if (type == null) type = ToastTypes.INFO;
+
+        return new JournaledToast(this, row, createTime, type, digest, title, content,
+                this.parameter, this.rehydrator);
+    }
+
+    /**
+     * <h2>是否已删除</h2>
+     *
+     * @param row 行号
+     * @return 是/否
+     */
+    public boolean isRemoved(long row) {
+        return row < this.head || this.entry(row) < 0;
+    }
+
+    /**
+     * <h2>删除</h2>
+     * <p>先标记全部行，再一次性前移首行，元数据只写入一次</p>
+     *
+     * @param rows 未删除的行号，升序
+     */
+    public void remove(long... rows) {
+
+        this.checkInitialize();
+
+        if (rows.length == 0) return;
+
+        long last = -1;
+
+        for (long row : rows) {
+
+            if (row < this.head || row >= this.size)
+                throw new IndexOutOfBoundsException("row : " + row + ", head : " + this.head
+                        + ", size : " + this.size + ".");
+
+            if (row <= last)
+                throw new IllegalArgumentException("rows must ascending and distinct, actual : " + row
+                        + " after " + last + ".");
+
+            if (this.entry(row) < 0) throw new IllegalArgumentException("row[" + row + "] already removed.");
+
+            last = row;
+        }
+
+        for (long row : rows) {
+
+            MappedByteBuffer index = this.index(row, false);
+            int slot = slot(row);
+
+            index.putLong(slot, index.getLong(slot) | REMOVED);
+        }
+
+        this.removedCount += rows.length;
+
+        // 前移首行，并跳过已标记删除的行
+        while (this.head < this.size && this.entry(this.head) < 0) {
+            this.head++;
+            this.removedCount--;
+        }
+
+        this.writeMeta();
+    }
+
+    /**
+     * <h2>清空</h2>
+     */
+    public void clear() {
+
+        this.checkInitialize();
+
+        this.head = this.size;
+        this.removedCount = 0;
+
+        this.writeMeta();
+    }
+
+    /**
+     * <h2>得到 已删除行</h2>
+     * <p>首行之后被标记为删除的行号，升序；只读取索引</p>
+     *
+     * @return 行号数组
+     */
+    public long[] removedRows() {
+
+        this.checkInitialize();
+
+        long[] rows = new long[(int) this.removedCount];
+
+        for (long row = this.head, i = 0; i < rows.length && row < this.size; row++)
+            if (this.entry(row) < 0) rows[(int) i++] = row;
+
+        return rows;
+    }
+
+    /**
+     * <h2>得到行数</h2>
+     * <p>含首行之前的，以及已删除的</p>
+     *
+     * @return 行数
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * <h2>销毁</h2>
+     * <p>刷出已映射的文件，文件保留</p>
+     */
+    public void destroy() {
+
+        if (this.meta == null) return;
+
+        this.segments.forEach(MappedByteBuffer::force);
+        this.indexes.forEach(MappedByteBuffer::force);
+        this.meta.force();
+
+        this.segments.clear();
+        this.indexes.clear();
+        this.undeletedFiles.clear();
+        this.meta = null;
+
+        this.head = 0;
+        this.size = 0;
+        this.removedCount = 0;
+        this.position = 0;
+
+        log.trace("journal {} is destroyed.", this.directory);
+    }
+
+    /**
+     * <h2>得到索引项</h2>
+     *
+     * @param row 行号
+     * @return 索引项
+     */
+    private long entry(long row) {
+
+        if (row < 0 || row >= this.size)
+            throw new IndexOutOfBoundsException("row : " + row + ", size : " + this.size + ".");
+
+        return this.index(row, false).getLong(slot(row));
+    }
+
+    /**
+     * <h2>得到索引块</h2>
+     *
+     * @param row    行号
+     * @param create 不存在时，是否创建
+     * @return 索引块
+     */
+    private MappedByteBuffer index(long row, boolean create) {
+
+        int chunk = (int) (row >>> INDEX_SHIFT);
+
+        if (create && this.indexes.isEmpty()) this.indexBase = chunk;
+
+        int i = chunk - this.indexBase;
+
+        if (i < 0) throw new IndexOutOfBoundsException("row : " + row + " is reclaimed.");
+
+        if (i == this.indexes.size() && create) {
+
+            try {
+                this.indexes.add(map(this.path(chunk, INDEX_SUFFIX), INDEX_ROWS * Long.BYTES));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return this.indexes.get(i);
+    }
+
+    /**
+     * <h2>滚动数据段</h2>
+     */
+    private void rotate() {
+
+        if (this.segments.isEmpty()) this.segmentBase = 0;
+        else this.lastSegment().force();
+
+        int segment = this.segmentBase + this.segments.size();
+
+        try {
+            this.segments.add(map(this.path(segment, SEGMENT_SUFFIX), this.segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.position = 0;
+
+        log.debug("journal {} rotate to segment {}.", this.directory, segment);
+    }
+
+    /**
+     * <h2>回收</h2>
+     * <p>删除整块位于首行之前的索引块、数据段，始终保留最后一个</p>
+     * <p>延迟至追加时执行，以便变更事件中仍能读取被删除的行</p>
+     * <p>文件暂不能删除时（如：Windows下仍被映射），不再映射，留待下次回收时重试</p>
+     */
+    private void reclaim() {
+
+        this.undeletedFiles.removeIf(ToastJournal::delete);
+
+        while (this.indexes.size() > 1 && ((long) (this.indexBase + 1) << INDEX_SHIFT) <= this.head) {
+
+            this.indexes.remove(0);
+            this.reclaim(this.path(this.indexBase++, INDEX_SUFFIX));
+        }
+
+        if (this.segments.isEmpty()) return;
+
+        int headSegment = this.head < this.size
+                ? segmentOf(this.entry(this.head))
+                : this.segmentBase + this.segments.size() - 1;
+
+        while (this.segmentBase < headSegment) {
+
+            this.segments.remove(0);
+            this.reclaim(this.path(this.segmentBase++, SEGMENT_SUFFIX));
+        }
+    }
+
+    private void reclaim(Path path) {
+        if (!delete(path)) this.undeletedFiles.add(path);
+    }
+
+    private MappedByteBuffer lastSegment() {
+        return this.segments.get(this.segments.size() - 1);
+    }
+
+    private void writeMeta() {
+        this.meta.putLong(0, this.head);
+        this.meta.putLong(8, this.removedCount);
+    }
+
+    private void checkInitialize() {
+        if (this.meta == null) throw new IllegalStateException("journal " + this.directory + " uninitialized.");
+    }
+
+    private Path path(int number, String suffix) {
+        return this.directory.resolve(String.format("%08d%s", number, suffix));
+    }
+
+    /**
+     * <h2>映射全部文件</h2>
+     * <p>映射编号连续、且以最大编号结尾的文件</p>
+     * <p>编号中断之前的文件，是此前回收时未能删除的，再次尝试删除</p>
+     *
+     * @param suffix 后缀
+     * @param mapper 映射器
+     * @return 首个文件的编号
+     * @throws IOException IO异常
+     */
+    private int mapAll(String suffix, FileMapper mapper) throws IOException {
+
+        TreeMap<Integer, Path> files = new TreeMap<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + suffix)) {
+
+            for (Path path : stream) {
+
+                String name = path.getFileName().toString();
+
+                try {
+                    files.put(Integer.parseInt(name.substring(0, name.length() - suffix.length())), path);
+                } catch (NumberFormatException e) {
+                    log.debug("journal file {} is ignored.", path);
+                }
+            }
+        }
+
+        if (files.isEmpty()) return 0;
+
+        int first = files.lastKey();
+        while (files.containsKey(first - 1)) first--;
+
+        for (Path path : files.headMap(first).values()) {
+
+            log.debug("journal file {} is left by reclaim, delete again.", path);
+
+            if (!delete(path)) this.undeletedFiles.add(path);
+        }
+
+        for (Path path : files.tailMap(first).values()) mapper.map(path);
+
+        return first;
+    }
+
+    /**
+     * <h2>删除文件</h2>
+     *
+     * @param path 文件路径
+     * @return 是否已不存在
+     */
+    private static boolean delete(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+            return true;
+        } catch (IOException e) {
+            // 如：Windows下仍被映射的文件
+            log.debug("journal file " + path + " can not be deleted now.", e);
+            return false;
+        }
+    }
+
+    private static int slot(long row) {
+        return (int) (row & INDEX_MASK) << 3;
+    }
+
+    private static int segmentOf(long entry) {
+        return (int) ((entry & ~REMOVED) >>> 32) - 1;
+    }
+
+    /**
+     * <h2>得到 已提交行数</h2>
+     * <p>索引项按序写入，未写入的为0，二分查找第一个0</p>
+     *
+     * @param index 索引块
+     * @return 行数
+     */
+    private static int committed(MappedByteBuffer index) {
+
+        int low = 0, high = index.capacity() >>> 3;
+
+        while (low < high) {
+
+            int mid = (low + high) >>> 1;
+
+            if (index.getLong(mid << 3) != 0) low = mid + 1;
+            else high = mid;
+        }
+
+        return low;
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer buffer) {
+
+        int length = buffer.getInt();
+
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 文件映射器
+     */
+    @FunctionalInterface
+    private interface FileMapper {
+
+        void map(Path path) throws IOException;
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import lombok.NonNull;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>消息体 限流器</h2>
+ *
+ * <p>按 消息类型 与 来源（{@code ToastParameter.source}）分别限流，二者均未超出时，方可展示</p>
+ * <p>每个限流桶基于GCRA（令牌桶的等价实现），仅以一个AtomicLong记录理论到达时间，无锁</p>
+ * <p>未配置速率的类型、来源，不受限制；无来源的消息体，只按类型限流</p>
+ * <p>来源限流桶空闲（理论到达时间已过）后与新建的无异，数量过多时会被清理，避免来源过多时无限增长</p>
+ * <p>此类是线程安全的</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 16:06:37</p>
+ * <p>更新时间：2026-10-18 19:55:30</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.ToastParameter#getSource()
+ */
+public class ToastRateLimiter {
+
+    /**
+     * 来源限流桶 最小清理阈值
+     */
+    private static final int MIN_SWEEP_SIZE = 64;
+
+    /**
+     * 消息类型 限流桶
+     */
+    private final Map<ToastType, Bucket> typeBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * 来源 限流桶
+     */
+    private final Map<String, Bucket> sourceBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * 来源 速率
+     */
+    private final Map<String, Rate> sourceRates = new ConcurrentHashMap<>();
+
+    /**
+     * 缺省的来源速率，为null时，未单独配置的来源不受限制
+     */
+    private volatile Rate defaultSourceRate;
+
+    /**
+     * 来源限流桶 清理阈值<br/>
+     * 数量达到此值时，清理空闲的限流桶，并将阈值调整为剩余数量的2倍，均摊O(1)
+     */
+    private volatile int sweepSize = MIN_SWEEP_SIZE;
+
+    /**
+     * 是否正在清理
+     */
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * <h2>设置 消息类型 速率</h2>
+     *
+     * @param type             消息类型
+     * @param permitsPerSecond 每秒允许的数量
+     * @param burst            允许的突发数量
+     * @return this
+     */
+    public ToastRateLimiter setRate(@NonNull ToastType type, double permitsPerSecond, int burst) {
+
+        this.typeBuckets.put(type, new Bucket(new Rate(permitsPerSecond, burst)));
+
+        return this;
+    }
+
+    /**
+     * <h2>设置 来源 速率</h2>
+     *
+     * @param source           来源
+     * @param permitsPerSecond 每秒允许的数量
+     * @param burst            允许的突发数量
+     * @return this
+     */
+    public ToastRateLimiter setSourceRate(@NonNull String source, double permitsPerSecond, int burst) {
+
+        this.sourceRates.put(source, new Rate(permitsPerSecond, burst));
+        this.sourceBuckets.remove(source);
+
+        return this;
+    }
+
+    /**
+     * <h2>设置 缺省的来源速率</h2>
+     * <p>适用于未单独配置速率的来源，每个来源各自计算</p>
+     *
+     * @param permitsPerSecond 每秒允许的数量
+     * @param burst            允许的突发数量
+     * @return this
+     */
+    public ToastRateLimiter setDefaultSourceRate(double permitsPerSecond, int burst) {
+
+        this.defaultSourceRate = new Rate(permitsPerSecond, burst);
+        this.sourceBuckets.keySet().removeIf(it -> !this.sourceRates.containsKey(it));
+
+        return this;
+    }
+
+    /**
+     * <h2>移除 消息类型 速率</h2>
+     *
+     * @param type 消息类型
+     * @return this
+     */
+    public ToastRateLimiter removeRate(@NonNull ToastType type) {
+
+        this.typeBuckets.remove(type);
+
+        return this;
+    }
+
+    /**
+     * <h2>尝试获取</h2>
+     * <p>先按来源、再按类型获取；来源获取成功而类型失败时，来源的额度不予退还</p>
+     *
+     * @param toast 消息体
+     * @return 是否在额度内
+     */
+    public boolean tryAcquire(@NonNull Toast toast) {
+
+        long now = System.nanoTime();
+
+        String source = toast.getParameter().getSource();
+
+        if (source != null) {
+
+            Bucket bucket = this.sourceBucket(source, now);
+
+            if (bucket != null && !bucket.tryAcquire(now)) return false;
+        }
+
+        Bucket bucket = this.typeBuckets.get(toast.getType());
+
+        return bucket == null || bucket.tryAcquire(now);
+    }
+
+    /**
+     * <h2>得到 来源限流桶数量</h2>
+     *
+     * @return 来源限流桶数量
+     */
+    int getSourceBucketSize() {
+        return this.sourceBuckets.size();
+    }
+
+    /**
+     * <h2>得到 来源 限流桶</h2>
+     *
+     * @param source 来源
+     * @param now    当前时间（纳秒）
+     * @return 限流桶，不受限制时，返回null
+     */
+    private Bucket sourceBucket(String source, long now) {
+
+        Bucket bucket = this.sourceBuckets.get(source);
+
+        if (bucket != null) return bucket;
+
+        Rate rate = this.sourceRates.getOrDefault(source, this.defaultSourceRate);
+
+        if (rate == null) return null;
+
+        if (this.sourceBuckets.size() >= this.sweepSize) this.sweep(now);
+
+        return this.sourceBuckets.computeIfAbsent(source, it -> new Bucket(rate, now));
+    }
+
+    /**
+     * <h2>清理</h2>
+     * <p>移除空闲的来源限流桶，其额度已完全恢复，移除后重建不影响限流结果</p>
+     *
+     * @param now 当前时间（纳秒）
+     */
+    private void sweep(long now) {
+
+        if (!this.sweeping.compareAndSet(false, true)) return;
+
+        try {
+
+            this.sourceBuckets.values().removeIf(it -> it.isIdle(now));
+
+            this.sweepSize = Math.max(MIN_SWEEP_SIZE, this.sourceBuckets.size() * 2);
+
+        } finally {
+            this.sweeping.set(false);
+        }
+    }
+
+    /**
+     * <h2>速率</h2>
+     */
+    private static final class Rate {
+
+        /**
+         * 每个许可的间隔（纳秒）
+         */
+        private final long interval;
+
+        /**
+         * 允许的最大提前量（纳秒），即：突发数量 * 间隔
+         */
+        private final long tolerance;
+
+        private Rate(double permitsPerSecond, int burst) {
+
+            if (!(permitsPerSecond > 0))
+                throw new IllegalArgumentException("permitsPerSecond must greater than 0, actual : "
+                        + permitsPerSecond + ".");
+
+            if (burst <= 0)
+                throw new IllegalArgumentException("burst must greater than 0, actual : " + burst + ".");
+
+            this.interval = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+            this.tolerance = this.interval * burst;
+        }
+    }
+
+    /**
+     * <h2>限流桶</h2>
+     * <p>GCRA：每次获取将理论到达时间推后一个间隔，超出容忍的提前量时拒绝</p>
+     */
+    private static final class Bucket {
+
+        private final Rate rate;
+
+        /**
+         * 理论到达时间（纳秒）
+         */
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(Rate rate) {
+            this(rate, System.nanoTime());
+        }
+
+        private Bucket(Rate rate, long now) {
+            this.rate = rate;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * <h2>是否空闲</h2>
+         *
+         * @param now 当前时间（纳秒）
+         * @return 理论到达时间已过时，为空闲
+         */
+        private boolean isIdle(long now) {
+            return this.theoreticalArrival.get() - now <= 0;
+        }
+
+        private boolean tryAcquire(long now) {
+
+            while (true) {
+
+                long arrival = this.theoreticalArrival.get();
+
+                long next = Math.max(arrival, now) + this.rate.interval;
+
+                if (next - now > this.rate.tolerance) return false;
+
+                if (this.theoreticalArrival.compareAndSet(arrival, next)) return true;
+            }
+        }
+    }
+}
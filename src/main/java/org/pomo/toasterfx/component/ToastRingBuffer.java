@@ -0,0 +1,470 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.pomo.toasterfx.model.OverflowPolicy;
+import org.pomo.toasterfx.model.Toast;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * <h2>消息体 - 环形缓冲队列</h2>
+ *
+ * <p>有界、无锁的多生产者队列，基于预分配的环形数组实现，入队时不会产生节点分配</p>
+ * <p>可通过{@code ToastHandler.setToasts}替换默认的{@code LinkedBlockingQueue}，适用于大量线程并发push的场景</p>
+ * <p>队列已满时，offer的行为由{@code OverflowPolicy}决定</p>
+ * <p>阻塞式的take、poll(timeout)，仅允许单个消费线程调用</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 09:44:02</p>
+ * <p>更新时间：2026-10-18 09:44:02</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see OverflowPolicy
+ */
+@Slf4j
+public class ToastRingBuffer extends AbstractQueue<Toast> implements BlockingQueue<Toast> {
+
+    // region {成员属性}
+    /**
+     * 容量（2的幂，至少为2）
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 下标掩码
+     */
+    private final int mask;
+
+    /**
+     * 槽位
+     */
+    private final AtomicReferenceArray<Toast> buffer;
+
+    /**
+     * 槽位序号<br/>
+     * 序号 == 位置 时，槽位可写；序号 == 位置 + 1 时，槽位可读
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * 读取位置
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 写入位置
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 溢出策略
+     */
+    @Getter
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * 溢出回调<br/>
+     * 策略为{@code DROP_OLDEST_TO_ARCHIVE}时，被移出的消息体会交由此回调处理
+     */
+    @Setter
+    private Consumer<Toast> onOverflow;
+
+    /**
+     * 阻塞等待中的消费线程<br/>
+     * 生产者唤醒时会将其置空，确保一次等待仅唤醒一次
+     */
+    private final AtomicReference<Thread> consumer = new AtomicReference<>();
+    // endregion
+
+    /**
+     * @param capacity       容量，会向上取整为2的幂（至少为2）
+     * @param overflowPolicy 溢出策略
+     */
+    public ToastRingBuffer(int capacity, @NonNull OverflowPolicy overflowPolicy) {
+
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("capacity must in (0, 2^30], actual : " + capacity + ".");
+
+        // 容量为1时，可读序号与下一轮的可写序号相同，故至少为2
+        int size = 2;
+        while (size < capacity) size <<= 1;
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) this.sequences.set(i, i);
+    }
+
+    /**
+     * <p>溢出时，移出最旧的消息体并归档</p>
+     *
+     * @param capacity 容量，会向上取整为2的幂（至少为2）
+     */
+    public ToastRingBuffer(int capacity) {
+        this(capacity, OverflowPolicy.DROP_OLDEST_TO_ARCHIVE);
+    }
+
+    /**
+     * <h2>推入</h2>
+     * <p>队列已满时，依据溢出策略处理</p>
+     * <p>溢出策略为{@code BLOCK}时，此方法会阻塞</p>
+     *
+     * @param toast 消息体
+     * @return 是否添加成功
+     */
+    @Override
+    public boolean offer(@NonNull Toast toast) {
+
+        switch (this.overflowPolicy) {
+
+            case DROP_NEWEST:
+                return this.tryOffer(toast);
+
+            case BLOCK:
+
+                try {
+
+                    this.put(toast);
+                    return true;
+
+                } catch (InterruptedException e) {
+
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+
+            case DROP_OLDEST_TO_ARCHIVE:
+            default:
+
+                while (!this.tryOffer(toast)) {
+
+                    // 与其他生产者竞争时，可能已被取走，此时重试即可
+                    Toast oldest = this.tryPoll();
+
+                    if (oldest != null) this.overflow(oldest);
+                }
+
+                return true;
+        }
+    }
+
+    @Override
+    public void put(@NonNull Toast toast) throws InterruptedException {
+
+        int spins = 0;
+
+        while (!this.tryOffer(toast)) {
+
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            this.backOff(spins++);
+        }
+    }
+
+    @Override
+    public boolean offer(@NonNull Toast toast, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int spins = 0;
+
+        while (!this.tryOffer(toast)) {
+
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            if (deadline - System.nanoTime() <= 0) return false;
+
+            this.backOff(spins++);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(@NonNull Collection<? extends Toast> toasts) {
+
+        if (toasts == this) throw new IllegalArgumentException("can not add self.");
+
+        boolean modified = false;
+
+        for (Toast toast : toasts) modified |= this.offer(toast);
+
+        return modified;
+    }
+
+    @Override
+    public Toast poll() {
+        return this.tryPoll();
+    }
+
+    @Override
+    public Toast take() throws InterruptedException {
+
+        Toast toast;
+
+        try {
+
+            while ((toast = this.tryPoll()) == null) {
+
+                if (Thread.interrupted()) throw new InterruptedException();
+
+                // 先登记，再检查，避免丢失唤醒
+                this.consumer.set(Thread.currentThread());
+
+                if ((toast = this.tryPoll()) != null) return toast;
+
+                LockSupport.park(this);
+            }
+
+            return toast;
+
+        } finally {
+            this.consumer.lazySet(null);
+        }
+    }
+
+    @Override
+    public Toast poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        Toast toast;
+
+        try {
+
+            while ((toast = this.tryPoll()) == null) {
+
+                if (Thread.interrupted()) throw new InterruptedException();
+
+                long nanos = deadline - System.nanoTime();
+
+                if (nanos <= 0) return null;
+
+                this.consumer.set(Thread.currentThread());
+
+                if ((toast = this.tryPoll()) != null) return toast;
+
+                LockSupport.parkNanos(this, nanos);
+            }
+
+            return toast;
+
+        } finally {
+            this.consumer.lazySet(null);
+        }
+    }
+
+    /**
+     * <h2>窥视</h2>
+     * <p>弱一致性，并发出队时，可能返回null</p>
+     *
+     * @return 队首消息体
+     */
+    @Override
+    public Toast peek() {
+
+        long position = this.head.get();
+        int index = (int) position & this.mask;
+
+        return this.sequences.get(index) == position + 1 ? this.buffer.get(index) : null;
+    }
+
+    @Override
+    public int size() {
+
+        long head = this.head.get();
+        long tail = this.tail.get();
+
+        return (int) Math.max(0, Math.min(tail - head, this.capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return this.capacity - this.size();
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Toast> collection) {
+        return this.drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Toast> collection, int maxElements) {
+
+        if (collection == this) throw new IllegalArgumentException("can not drain to self.");
+
+        int count = 0;
+        Toast toast;
+
+        while (count < maxElements && (toast = this.tryPoll()) != null) {
+
+            collection.add(toast);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * <h2>得到迭代器</h2>
+     * <p>基于快照，弱一致性，不支持remove</p>
+     *
+     * @return 迭代器
+     */
+    @Override
+    public Iterator<Toast> iterator() {
+
+        List<Toast> snapshot = new ArrayList<>(this.size());
+
+        long tail = this.tail.get();
+
+        for (long position = this.head.get(); position < tail; position++) {
+
+            int index = (int) position & this.mask;
+
+            Toast toast = this.buffer.get(index);
+
+            if (toast != null && this.sequences.get(index) == position + 1) snapshot.add(toast);
+        }
+
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    /**
+     * <h2>尝试入队</h2>
+     *
+     * @param toast 消息体
+     * @return 队列已满时，返回false
+     */
+    private boolean tryOffer(Toast toast) {
+
+        long position = this.tail.get();
+
+        while (true) {
+
+            int index = (int) position & this.mask;
+            long difference = this.sequences.get(index) - position;
+
+            if (difference == 0) {
+
+                if (this.tail.compareAndSet(position, position + 1)) {
+
+                    this.buffer.lazySet(index, toast);
+
+                    // 此处需完整的volatile写，与消费者的登记构成先后关系
+                    this.sequences.set(index, position + 1);
+
+                    Thread consumer = this.consumer.get();
+                    if (consumer != null && this.consumer.compareAndSet(consumer, null))
+                        LockSupport.unpark(consumer);
+
+                    return true;
+                }
+
+                position = this.tail.get();
+
+            } else if (difference < 0) {// 槽位尚未被消费，队列已满
+
+                return false;
+
+            } else {
+
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * <h2>尝试出队</h2>
+     *
+     * @return 队列为空时，返回null
+     */
+    private Toast tryPoll() {
+
+        long position = this.head.get();
+
+        while (true) {
+
+            int index = (int) position & this.mask;
+            long difference = this.sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+
+                if (this.head.compareAndSet(position, position + 1)) {
+
+                    Toast toast = this.buffer.get(index);
+
+                    this.buffer.lazySet(index, null);
+                    this.sequences.lazySet(index, position + this.mask + 1);
+
+                    return toast;
+                }
+
+                position = this.head.get();
+
+            } else if (difference < 0) {// 槽位尚未被写入，队列为空
+
+                return null;
+
+            } else {
+
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * <h2>溢出</h2>
+     *
+     * @param toast 被移出的消息体
+     */
+    private void overflow(Toast toast) {
+
+        Consumer<Toast> onOverflow = this.onOverflow;
+
+        if (onOverflow != null) onOverflow.accept(toast);
+        else log.warn("toast ring buffer is full, {} is dropped.", toast);
+    }
+
+    /**
+     * <h2>退避</h2>
+     *
+     * @param spins 已自旋次数
+     */
+    private void backOff(int spins) {
+
+        if (spins < 64) Thread.yield();
+        else LockSupport.parkNanos(this, 100_000L);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.pomo.toasterfx.model.Toast;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2>消息体严重程度索引</h2>
+ *
+ * <p>监听一个消息集，维护各严重程度的消息数量，及其首行下标的下界（扫描提示）</p>
+ * <p>取最低严重程度的若干行时，由数量确定各级的配额，再从各级的提示处扫描，无需排序整个消息集</p>
+ * <p>取出的行随即被移除时，每行至多被各级扫描一次，均摊为O(取出行数)</p>
+ * <p>挂载时完整读取一次消息集；清空时不读取被移除的行</p>
+ * <p>只应在ui线程中被操作，线程不安全</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 20:24:10</p>
+ * <p>更新时间：2026-10-18 20:24:10</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.EvictionPolicy#LOWEST_SEVERITY_FIRST
+ */
+public class ToastSeverityIndex implements ListChangeListener<Toast> {
+
+    /**
+     * 被索引的消息集
+     */
+    private ObservableList<? extends Toast> toasts;
+
+    /**
+     * 严重程度 ——> 条目，升序
+     */
+    private final TreeMap<Integer, Entry> entries = new TreeMap<>();
+
+    /**
+     * <h2>是否已挂载于指定消息集</h2>
+     *
+     * @param toasts 消息集
+     * @return 是/否
+     */
+    public boolean isAttached(ObservableList<? extends Toast> toasts) {
+        return this.toasts == toasts;
+    }
+
+    /**
+     * <h2>挂载</h2>
+     * <p>先卸载之前的消息集，再完整读取一次新的消息集</p>
+     *
+     * @param toasts 消息集
+     */
+    public void attach(ObservableList<? extends Toast> toasts) {
+
+        this.detach();
+
+        for (int i = 0, size = toasts.size(); i < size; i++) this.increase(toasts.get(i), i);
+
+        toasts.addListener(this);
+
+        this.toasts = toasts;
+    }
+
+    /**
+     * <h2>卸载</h2>
+     */
+    public void detach() {
+
+        if (this.toasts != null) this.toasts.removeListener(this);
+
+        this.toasts = null;
+        this.entries.clear();
+    }
+
+    /**
+     * <h2>取最低严重程度的行</h2>
+     * <p>严重程度相同时，下标小者优先</p>
+     * <p>调用方须随即移除返回的行，扫描提示已按移除后的位置推进</p>
+     *
+     * @param count 行数
+     * @return 行下标
+     */
+    public BitSet lowest(int count) {
+
+        if (this.toasts == null) throw new IllegalStateException("ToastSeverityIndex is not attached.");
+
+        int size = this.toasts.size();
+
+        BitSet rows = new BitSet();
+
+        int remaining = Math.min(count, size);
+
+        for (Map.Entry<Integer, Entry> it : this.entries.entrySet()) {
+
+            if (remaining <= 0) break;
+
+            int severity = it.getKey();
+            Entry entry = it.getValue();
+
+            int quota = Math.min(entry.count, remaining);
+
+            int i = entry.hint;
+            for (int found = 0; found < quota && i < size; i++) {
+
+                if (severityOf(this.toasts.get(i)) == severity) {
+
+                    rows.set(i);
+                    found++;
+                }
+            }
+
+            // 此前的该级行均将被移除，移除时提示随之前移
+            entry.hint = i;
+
+            remaining -= quota;
+        }
+
+        return rows;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Toast> c) {
+
+        // 被清空时，不必读取被移除的行
+        if (c.getList().isEmpty()) {
+
+            this.entries.clear();
+            return;
+        }
+
+        while (c.next()) {
+
+            int from = c.getFrom();
+
+            if (c.wasPermutated() || c.wasUpdated()) {
+
+                this.lowerHints(from);
+                continue;
+            }
+
+            if (c.wasRemoved()) {
+
+                for (Toast toast : c.getRemoved()) this.decrease(toast);
+
+                int removedSize = c.getRemovedSize();
+
+                for (Entry entry : this.entries.values()) {
+
+                    if (entry.hint >= from + removedSize) entry.hint -= removedSize;
+                    else if (entry.hint > from) entry.hint = from;
+                }
+            }
+
+            if (c.wasAdded()) {
+
+                this.lowerHints(from);
+
+                for (Toast toast : c.getAddedSubList()) this.increase(toast, from);
+            }
+        }
+    }
+
+    /**
+     * <h2>得到 各严重程度的消息数量</h2>
+     *
+     * @param severity 严重程度
+     * @return 数量
+     */
+    int count(int severity) {
+
+        Entry entry = this.entries.get(severity);
+
+        return entry == null ? 0 : entry.count;
+    }
+
+    private void increase(Toast toast, int index) {
+
+        Entry entry = this.entries.computeIfAbsent(severityOf(toast), it -> new Entry(index));
+
+        entry.count++;
+    }
+
+    private void decrease(Toast toast) {
+
+        int severity = severityOf(toast);
+
+        Entry entry = this.entries.get(severity);
+
+        if (entry != null && --entry.count <= 0) this.entries.remove(severity);
+    }
+
+    /**
+     * <h2>降低提示</h2>
+     * <p>此下标之后的行已变化，提示不得超过此下标</p>
+     *
+     * @param index 下标
+     */
+    private void lowerHints(int index) {
+        for (Entry entry : this.entries.values()) if (entry.hint > index) entry.hint = index;
+    }
+
+    private static int severityOf(Toast toast) {
+        return toast.getType().getSeverity();
+    }
+
+    /**
+     * 条目
+     */
+    private static final class Entry {
+
+        /**
+         * 消息数量
+         */
+        private int count;
+
+        /**
+         * 扫描提示：此下标之前，不存在该严重程度的行
+         */
+        private int hint;
+
+        private Entry(int hint) {
+            this.hint = hint;
+        }
+    }
+}
@@ -37,10 +37,11 @@ import java.util.stream.Collectors;
  * <h2>列表 消息条</h2>
  * <p>可显示多消息体中，各个类型的数量</p>
  * <p>支持国际化</p>
+ * <p>不可复用</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 16:33:41</p>
- * <p>更新时间：2020-09-23 16:33:41</p>
+ * <p>更新时间：2026-10-18 17:00:05</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -265,6 +266,17 @@ public class ListToastBar extends ToastBar
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * <h2>回收回调</h2>
+     * <p>与多消息体强关联，不可复用，总是正常销毁</p>
+     *
+     * @return false
+     */
+    @Override
+    public boolean onRecycle() {
+        return false;
+    }
+
     @Override
     public void onDestroy() {
         super.onDestroy();
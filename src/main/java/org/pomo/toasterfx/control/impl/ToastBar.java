@@ -25,10 +25,11 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * <h2>消息 条</h2>
  * <p>继承{@code ToastBarBase}，扩展支持标题</p>
+ * <p>可复用，复用时重新设置标题、内容、图标即可</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 16:39:42</p>
- * <p>更新时间：2020-09-23 16:39:42</p>
+ * <p>更新时间：2026-10-18 16:59:40</p>
  *
  * @see ToastBarBase
  *
@@ -124,6 +125,15 @@ public class ToastBar extends ToastBarBase {
         return targetHeight - originalHeight != 0 || super.checkExpansion();
     }
 
+    @Override
+    public boolean onRecycle() {
+
+        this.getTitleProperty().unbind();
+        this.setTitle(null);
+
+        return super.onRecycle();
+    }
+
     @Override
     public void onDestroy() {
 
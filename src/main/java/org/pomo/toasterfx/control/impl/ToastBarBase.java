@@ -15,6 +15,8 @@
  */
 package org.pomo.toasterfx.control.impl;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
@@ -23,22 +25,26 @@ import javafx.scene.layout.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.Toaster;
 import org.pomo.toasterfx.common.Destroyable;
+import org.pomo.toasterfx.common.Reusable;
 import org.pomo.toasterfx.common.ToasterAware;
 import org.pomo.toasterfx.control.ToasterHoverListener;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.scalable.OccurrenceSupport;
 
 /**
  * <h2>消息 - 条 - 基础</h2>
  * <p>用于展示消息的Node</p>
  * <p>支持图标、内容文本</p>
  * <p>支持自动展、卷长文本内容</p>
+ * <p>消息体被合并过时，右侧展示“×N”出现次数</p>
+ * <p>可复用，关闭后回收至Node池，复用时重新设置内容、图标即可</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 16:44:52</p>
- * <p>更新时间：2020-09-23 16:44:52</p>
+ * <p>更新时间：2026-10-18 16:59:12</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -46,7 +52,7 @@ import org.pomo.toasterfx.control.ToasterHoverListener;
 @Slf4j
 @NoArgsConstructor
 public class ToastBarBase extends HBox
-        implements ToasterAware, ToasterHoverListener, Destroyable {
+        implements ToasterAware, ToasterHoverListener, Destroyable, Reusable {
 
     /**
      * 默认主题样式表
@@ -76,12 +82,16 @@ public class ToastBarBase extends HBox
      */
     private final Label contentLabel;
 
+    /**
+     * 出现次数标签
+     */
+    private final Label occurrenceLabel;
+
     /**
      * 原始的最大高度
      */
     private Double originalMaxHeight;
 
-    @Setter
     private Toaster toaster;
 
     {
@@ -98,9 +108,15 @@ public class ToastBarBase extends HBox
         this.rightContainer.getStyleClass().add("right-container");
         HBox.setHgrow(this.rightContainer, Priority.ALWAYS);
 
+        this.occurrenceLabel = new Label();
+        this.occurrenceLabel.getStyleClass().add("occurrence");
+        this.occurrenceLabel.managedProperty().bind(this.occurrenceLabel.visibleProperty());
+        this.occurrenceLabel.setVisible(false);
+
         ObservableList<Node> children = this.getChildren();
         children.add(this.graphicContainer);
         children.add(this.rightContainer);
+        children.add(this.occurrenceLabel);
     }
 
     /**
@@ -162,6 +178,26 @@ public class ToastBarBase extends HBox
         if (graphic != null) children.add(graphic);
     }
 
+    @Override
+    public void setToaster(Toaster toaster) {
+
+        this.toaster = toaster;
+
+        this.occurrenceLabel.textProperty().unbind();
+        this.occurrenceLabel.visibleProperty().unbind();
+        this.occurrenceLabel.setVisible(false);
+
+        Toast toast = toaster == null ? null : toaster.getToast();
+
+        if (toast instanceof OccurrenceSupport) {
+
+            ReadOnlyIntegerProperty occurrence = ((OccurrenceSupport) toast).getOccurrenceProperty();
+
+            this.occurrenceLabel.textProperty().bind(Bindings.concat("×", occurrence));
+            this.occurrenceLabel.visibleProperty().bind(occurrence.greaterThan(1));
+        }
+    }
+
     /**
      * <h2>检查是否需要扩张</h2>
      *
@@ -200,11 +236,36 @@ public class ToastBarBase extends HBox
         }
     }
 
+    @Override
+    public boolean onRecycle() {
+
+        this.getContentProperty().unbind();
+        this.setContent(null);
+
+        // 悬停中被关闭时，恢复原始最大高度
+        if (this.originalMaxHeight != null) {
+
+            this.setMaxHeight(this.originalMaxHeight);
+            this.originalMaxHeight = null;
+        }
+
+        this.toaster = null;
+
+        this.occurrenceLabel.textProperty().unbind();
+        this.occurrenceLabel.visibleProperty().unbind();
+        this.occurrenceLabel.setVisible(false);
+
+        return true;
+    }
+
     @Override
     public void onDestroy() {
 
         this.getContentProperty().unbind();
 
+        this.occurrenceLabel.textProperty().unbind();
+        this.occurrenceLabel.visibleProperty().unbind();
+
         log.trace("ToastBarBase is destroyed.");
     }
 }
@@ -18,6 +18,7 @@ package org.pomo.toasterfx.controller;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
@@ -34,10 +35,13 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.ToastHelper;
 import org.pomo.toasterfx.ToasterService;
+import org.pomo.toasterfx.component.JournalToastList;
 import org.pomo.toasterfx.model.MultiToast;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastState;
 import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.scalable.OccurrenceSupport;
 import org.pomo.toasterfx.util.FXMessages;
 
 import java.text.MessageFormat;
@@ -51,10 +55,14 @@ import java.util.stream.Collectors;
 /**
  * <h2>表格式 - 列表消息 - 控制器</h2>
  * <p>由FXMLLoader负责创建，并进行属性注入</p>
+ * <p>被合并过的消息体，时间列展示最后出现时间，摘要列追加“×N”出现次数</p>
+ * <p>归档记录，在点击“显示”时才重建为真实的消息体</p>
+ * <p>列式存储中的归档记录为按需生成的视图，因此消息体以equals比较，而非==</p>
+ * <p>日志存储的消息集，只读取可见的行；清空时，不逐条销毁</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 17:04:56</p>
- * <p>更新时间：2020-09-23 17:04:56</p>
+ * <p>更新时间：2026-10-18 18:06:27</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -200,8 +208,7 @@ public class TableViewListToastController {
                     selectedProperty.addListener((observable, oldValue, newValue) -> {
 
                         // item存在，且是当前table中的一项(排除失效的cell)
-                        if (item != null
-                                && table.getItems().stream().anyMatch(it -> it == item)) {
+                        if (item != null && table.getItems().contains(item)) {
 
                             toastSelectMap.put(item, newValue);
 
@@ -256,7 +263,10 @@ public class TableViewListToastController {
         DateTimeFormatter formatterFull = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
         messages.bindProperty(this, colDate.textProperty(), "toasterfx.date");
-        colDate.setCellValueFactory(new PropertyValueFactory<>("createTime"));
+        PropertyValueFactory<Toast, Long> createTimeFactory = new PropertyValueFactory<>("createTime");
+        colDate.setCellValueFactory(param -> param.getValue() instanceof OccurrenceSupport
+                ? ((OccurrenceSupport) param.getValue()).getLastSeenTimeProperty().asObject()
+                : createTimeFactory.call(param));
         colDate.setCellFactory(param -> new TableCell<Toast, Long>() {
 
             private final Tooltip tooltip;
@@ -341,7 +351,19 @@ public class TableViewListToastController {
 
         // region {摘要}
         messages.bindProperty(this, colDigest.textProperty(), "toasterfx.digest");
-        colDigest.setCellValueFactory(new PropertyValueFactory<>("digest"));
+        PropertyValueFactory<Toast, String> digestFactory = new PropertyValueFactory<>("digest");
+        colDigest.setCellValueFactory(param -> {
+
+            ObservableValue<String> digest = digestFactory.call(param);
+
+            if (!(param.getValue() instanceof OccurrenceSupport)) return digest;
+
+            ReadOnlyIntegerProperty occurrence = ((OccurrenceSupport) param.getValue()).getOccurrenceProperty();
+
+            return Bindings.createStringBinding(() -> occurrence.get() > 1
+                    ? digest.getValue() + " ×" + occurrence.get()
+                    : digest.getValue(), occurrence);
+        });
         colDigest.setCellFactory(param -> new TableCell<Toast, String>() {
 
             private final Tooltip tooltip;
@@ -391,6 +413,10 @@ public class TableViewListToastController {
 
                 if (!empty && this.getTableRow() != null) {
 
+                    Object toast = this.getTableRow().getItem();
+
+                    // 不可重建的归档记录，无法展示
+                    this.btnShow.setDisable(toast instanceof ArchivedToast && !((ArchivedToast) toast).isRehydratable());
                     this.setGraphic(this.btnShow);
 
                 } else {
@@ -447,9 +473,9 @@ public class TableViewListToastController {
     @FXML
     private void onClear() {
 
-        // 销毁Toast、Node
+        // 销毁Toast、Node；日志中的记录无需销毁
         ObservableList<Toast> items = this.table.getItems();
-        this.toastHelper.destroy(items);
+        if (!(items instanceof JournalToastList)) this.toastHelper.destroy(items);
         items.clear();
 
         this.toastSelectMap.clear();
@@ -494,8 +520,9 @@ public class TableViewListToastController {
 
         if (this.multiToast.getToasts().isEmpty()) this.selectedClear();
 
-        // 必须重置后，才能push
-        this.toastHelper.reset(toast);
+        // 归档记录，重建为真实的消息体；否则，必须重置后，才能push
+        if (toast instanceof ArchivedToast) toast = ((ArchivedToast) toast).rehydrate();
+        else this.toastHelper.reset(toast);
 
         this.service.push(toast);
     }
@@ -15,6 +15,7 @@
  */
 package org.pomo.toasterfx.model;
 
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.event.Event;
@@ -29,7 +30,15 @@ import org.pomo.toasterfx.common.TeFunction;
 import org.pomo.toasterfx.common.ToasterAware;
 import org.pomo.toasterfx.model.scalable.MutableStateToast;
 import org.pomo.toasterfx.model.scalable.NodeCreateable;
+import org.pomo.toasterfx.model.scalable.NodeReusable;
+import org.pomo.toasterfx.model.scalable.NodeSlotSupport;
+import org.pomo.toasterfx.model.scalable.OutcomeSupport;
+import org.pomo.toasterfx.util.FXUtils;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -37,10 +46,15 @@ import java.util.function.Function;
  * <h2>抽象的 - 消息体</h2>
  *
  * <p>实现了{@code Toast}需实现的必要接口</p>
+ * <p>结局在状态变更时直接完成，无需在状态Property上注册监听</p>
+ * <p>状态存储于原子字段中，以CAS按合法转换表修改，可在任意线程中读写</p>
+ * <p>状态Property为按需创建的ui线程视图：ui线程中的修改立即同步，其他线程中的修改合并为一次脉冲通知</p>
+ * <p>设置了Node重绑定时，可复用已回收的同类Node</p>
+ * <p>自身持有Node槽位，NodeHelper存取其Node时无需加锁与哈希查找</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 20:20:56</p>
- * <p>更新时间：2020-09-23 20:20:56</p>
+ * <p>更新时间：2026-10-18 20:46:05</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -50,11 +64,35 @@ import java.util.function.Function;
  * @see Actionable
  * @see MutableStateToast
  * @see NodeCreateable
+ * @see NodeReusable
+ * @see NodeSlotSupport
+ * @see OutcomeSupport
  */
 @Slf4j
 @RequiredArgsConstructor
 public abstract class AbstractToast<T extends Toast>
-        implements Toast, ToasterAware, Destroyable, Actionable, MutableStateToast, NodeCreateable {
+        implements Toast, ToasterAware, Destroyable, Actionable, MutableStateToast, NodeCreateable, NodeReusable,
+        NodeSlotSupport, OutcomeSupport {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractToast, CompletableFuture> OUTCOME =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractToast.class, CompletableFuture.class, "outcome");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractToast, ToastState> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractToast.class, ToastState.class, "state");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractToast, ReadOnlyObjectWrapper> STATE_VIEW =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractToast.class, ReadOnlyObjectWrapper.class, "stateView");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AbstractToast> STATE_VIEW_DIRTY =
+            AtomicIntegerFieldUpdater.newUpdater(AbstractToast.class, "stateViewDirty");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractToast, Object> NODE_SLOT =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractToast.class, Object.class, "nodeSlot");
 
     /**
      * 此条消息的创建时间
@@ -63,10 +101,32 @@ public abstract class AbstractToast<T extends Toast>
     private final long createTime = System.currentTimeMillis();
 
     /**
-     * 消息状态 Wrapper
+     * 消息状态
      */
-    private ReadOnlyObjectWrapper<ToastState> stateWrapper
-            = new ReadOnlyObjectWrapper<>(ToastState.ABLE_SHOW);
+    private volatile ToastState state = ToastState.ABLE_SHOW;
+
+    /**
+     * 消息状态 视图<br/>
+     * 按需创建，未调用getStateProperty()时为null
+     */
+    private volatile ReadOnlyObjectWrapper<ToastState> stateView;
+
+    /**
+     * 消息状态 视图 是否已有待执行的同步（1：是）
+     */
+    private volatile int stateViewDirty;
+
+    /**
+     * 结局<br/>
+     * 按需创建，未调用getOutcome()时为null；自归档重置为可展示时，已完成的结局被丢弃
+     */
+    private volatile CompletableFuture<ToastState> outcome;
+
+    /**
+     * Node槽位<br/>
+     * 由NodeHelper维护：null、Node（强引用）或 Reference（弱/软引用）
+     */
+    private volatile Object nodeSlot;
 
     /**
      * 参数
@@ -79,6 +139,21 @@ public abstract class AbstractToast<T extends Toast>
     @Getter(AccessLevel.PROTECTED)
     private Function<T, Node> nodeSupplier;
 
+    /**
+     * 可复用的Node类型
+     */
+    @Setter
+    @Accessors(chain = true)
+    private Class<? extends Node> reusableNodeClass;
+
+    /**
+     * Node重绑定<br/>
+     * 为null时，不复用Node
+     */
+    @Setter
+    @Accessors(chain = true)
+    private BiConsumer<T, Node> nodeRebinder;
+
     /**
      * 消息者
      */
@@ -118,6 +193,36 @@ public abstract class AbstractToast<T extends Toast>
         return this.nodeSupplier.apply((T) toast);
     }
 
+    @Override
+    public Class<? extends Node> getReusableNodeClass() {
+        return this.nodeRebinder == null ? null : this.reusableNodeClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void rebindNode(@NonNull Node node) {
+
+        if (this.nodeRebinder == null)
+            throw new IllegalArgumentException("nodeRebinder is null.");
+
+        this.nodeRebinder.accept((T) this, node);
+    }
+
+    @Override
+    public Object getNodeSlot() {
+        return this.nodeSlot;
+    }
+
+    @Override
+    public boolean compareAndSetNodeSlot(Object expect, Object update) {
+        return NODE_SLOT.compareAndSet(this, expect, update);
+    }
+
+    @Override
+    public Object getAndSetNodeSlot(Object update) {
+        return NODE_SLOT.getAndSet(this, update);
+    }
+
     @Override
     public boolean hasAction() {
         return this.getOnAction() != null;
@@ -129,18 +234,132 @@ public abstract class AbstractToast<T extends Toast>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public ReadOnlyObjectProperty<ToastState> getStateProperty() {
-        return this.stateWrapper.getReadOnlyProperty();
+
+        ReadOnlyObjectWrapper<ToastState> stateView = this.stateView;
+
+        if (stateView == null) {
+
+            STATE_VIEW.compareAndSet(this, null, new ReadOnlyObjectWrapper<>(this.state));
+            stateView = this.stateView;
+
+            // 创建期间，状态可能已在其他线程中被修改
+            if (stateView.get() != this.state) this.notifyStateView();
+        }
+
+        return stateView.getReadOnlyProperty();
     }
 
     @Override
     public ToastState getState() {
-        return this.stateWrapper.get();
+        return this.state;
+    }
+
+    @Override
+    public void setToastState(@NonNull ToastState toastState) {
+
+        ToastState current;
+
+        do {
+
+            current = this.state;
+
+            if (current == toastState) return;
+
+            if (!current.canTransitionTo(toastState))
+                throw new IllegalArgumentException("current toast of state is " + current
+                        + ", stop transition to " + toastState + ".");
+
+        } while (!STATE.compareAndSet(this, current, toastState));
+
+        this.onStateChanged(toastState);
+    }
+
+    @Override
+    public boolean compareAndSetToastState(@NonNull ToastState expect, @NonNull ToastState update) {
+
+        if (expect == update) return this.state == expect;
+
+        if (!expect.canTransitionTo(update))
+            throw new IllegalArgumentException("current toast of state is " + expect
+                    + ", stop transition to " + update + ".");
+
+        if (!STATE.compareAndSet(this, expect, update)) return false;
+
+        this.onStateChanged(update);
+
+        return true;
+    }
+
+    /**
+     * <h2>状态已变更</h2>
+     * <p>完成结局，并通知状态视图</p>
+     * <p>自归档重置为可展示时（再次展示），丢弃已完成的结局，下次得到结局时重新创建</p>
+     *
+     * @param toastState 新状态
+     */
+    private void onStateChanged(ToastState toastState) {
+
+        CompletableFuture<ToastState> outcome = this.outcome;
+
+        if (outcome != null) {
+
+            if (OutcomeSupport.isOutcome(toastState)) outcome.complete(toastState);
+            else if (toastState == ToastState.ABLE_SHOW && outcome.isDone())
+                OUTCOME.compareAndSet(this, outcome, null);
+        }
+
+        if (this.stateView != null) this.notifyStateView();
+    }
+
+    /**
+     * <h2>通知状态视图</h2>
+     * <p>处于ui线程时，立即同步；否则，合并为一次脉冲同步</p>
+     */
+    private void notifyStateView() {
+
+        if (Platform.isFxApplicationThread()) {
+
+            this.syncStateView();
+
+        } else if (STATE_VIEW_DIRTY.compareAndSet(this, 0, 1)) {
+
+            FXUtils.pulseLater(() -> {
+
+                // 先清除标记，同步期间的修改会再次提交
+                this.stateViewDirty = 0;
+                this.syncStateView();
+            });
+        }
+    }
+
+    /**
+     * <h2>同步状态视图</h2>
+     * <p>只应在ui线程中调用，总是同步为最新状态</p>
+     */
+    private void syncStateView() {
+        this.stateView.set(this.state);
     }
 
     @Override
-    public void setToastState(ToastState toastState) {
-        this.stateWrapper.set(toastState);
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<ToastState> getOutcome() {
+
+        CompletableFuture<ToastState> outcome = this.outcome;
+
+        if (outcome == null) {
+
+            OUTCOME.compareAndSet(this, null, new CompletableFuture<ToastState>());
+            outcome = this.outcome;
+
+            // 创建前，可能已处于结局状态
+            ToastState state = this.state;
+
+            if (OutcomeSupport.isOutcome(state)) outcome.complete(state);
+        }
+
+        return outcome;
     }
 
     @Override
@@ -154,8 +373,9 @@ public abstract class AbstractToast<T extends Toast>
         this.parameter = null;
         this.toaster = null;
         this.onAction = null;
-        this.stateWrapper = null;
         this.nodeSupplier = null;
+        this.reusableNodeClass = null;
+        this.nodeRebinder = null;
         this.onDestroy = null;
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model;
+
+/**
+ * <h2>淘汰策略</h2>
+ *
+ * <p>此类型值，决定归档列表超出容量时，优先销毁哪些消息体</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 14:52:37</p>
+ * <p>更新时间：2026-10-18 20:52:37</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.MultiToastFactory
+ */
+public enum EvictionPolicy {
+    /**
+     * 优先淘汰最早归档的消息体
+     */
+    OLDEST_FIRST,
+    /**
+     * 优先淘汰严重程度最低的消息体
+     * <p>严重程度越低越先被淘汰；严重程度相同时，淘汰最早归档的</p>
+     * <p>配合归档日志时，自中部淘汰的行在首行越过它们之前不会回收磁盘，磁盘占用不受归档容量约束</p>
+     *
+     * @see ToastType#getSeverity()
+     */
+    LOWEST_SEVERITY_FIRST,
+    /**
+     * 淘汰存活时间超出TTL的消息体
+     * <p>以消息体的创建时间计算存活时间，仍超出容量时，淘汰最早归档的</p>
+     * <p>只自首部起检查，遇到未过期的即停止：晚归档但早创建的消息体，需等待其前面的过期</p>
+     */
+    TTL
+}
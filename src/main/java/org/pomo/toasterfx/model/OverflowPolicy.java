@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model;
+
+/**
+ * <h2>溢出策略</h2>
+ *
+ * <p>此类型值，决定有界消息体队列已满时，push的处理方式</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 09:41:26</p>
+ * <p>更新时间：2026-10-18 09:41:26</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.component.ToastRingBuffer
+ */
+public enum OverflowPolicy {
+    /**
+     * 移出最旧的消息体，并将其归档
+     */
+    DROP_OLDEST_TO_ARCHIVE,
+    /**
+     * 丢弃最新的消息体，即：push失败
+     */
+    DROP_NEWEST,
+    /**
+     * 阻塞push线程，直到队列出现空位
+     */
+    BLOCK
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <h2>消息者池 - 指标</h2>
+ *
+ * <p>某一时刻，消息者池的快照，不会随池变化</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 13:05:22</p>
+ * <p>更新时间：2026-10-18 13:05:22</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class PoolMetrics {
+
+    /**
+     * 空闲的消息者数量
+     */
+    private final int idle;
+
+    /**
+     * 使用中的消息者数量
+     */
+    private final int inUse;
+
+    /**
+     * 命中次数，即：从池中取得空闲消息者
+     */
+    private final long hits;
+
+    /**
+     * 未命中次数，即：池中无空闲，新建消息者
+     */
+    private final long misses;
+
+    /**
+     * 累计创建的消息者数量，含预热
+     */
+    private final long created;
+
+    /**
+     * 累计销毁的消息者数量
+     */
+    private final long destroyed;
+
+    /**
+     * 得到命中率
+     *
+     * @return 命中率 [0, 1]，尚无取用时为0
+     */
+    public double getHitRate() {
+
+        long total = this.hits + this.misses;
+
+        return total == 0 ? 0 : (double) this.hits / total;
+    }
+}
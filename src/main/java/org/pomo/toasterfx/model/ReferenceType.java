@@ -19,10 +19,11 @@ package org.pomo.toasterfx.model;
  * <h2>引用类型</h2>
  *
  * <p>此类型值，决定归档时，Node的处理方式</p>
+ * <p>LRU的容量由NodeHelper的lruCapacity、lruByteBudget配置</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 20:49:10</p>
- * <p>更新时间：2020-09-23 20:49:10</p>
+ * <p>更新时间：2026-10-18 18:34:22</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -41,6 +42,10 @@ public enum ReferenceType {
      * 切换为 - 软引用
      */
     SOFT,
+    /**
+     * 放入LRU缓存，在预算内保持强引用，超出时销毁最久未使用的
+     */
+    LRU,
     /**
      * 直接销毁，不再持有引用
      */
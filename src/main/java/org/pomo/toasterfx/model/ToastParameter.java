@@ -25,11 +25,11 @@ import java.util.Optional;
 /**
  * <h2>消息体 - 属性</h2>
  *
- * <p>构造器模式，允许设置音效、展示时长，x、y轴修复。</p>
+ * <p>构造器模式，允许设置音效、展示时长，x、y轴修复、来源。</p>
  * <br/>
  *
  * <p>创建时间：2020-09-25 10:13:04</p>
- * <p>更新时间：2020-09-25 10:13:04</p>
+ * <p>更新时间：2026-10-18 16:06:37</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -65,6 +65,15 @@ public class ToastParameter {
     @Builder.Default
     private final Audio audio = null;
 
+    /**
+     * 来源，即：生产者标识
+     * <p>用于按来源限流，为null时，只按消息类型限流</p>
+     *
+     * @see org.pomo.toasterfx.component.ToastRateLimiter
+     */
+    @Builder.Default
+    private final String source = null;
+
     /**
      * 得到音效
      *
@@ -15,14 +15,22 @@
  */
 package org.pomo.toasterfx.model;
 
+import lombok.NonNull;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * <h2>消息体 - 状态</h2>
  *
  * <p>此枚举揭示消息体的生命周期</p>
+ * <p>状态间的合法转换，见{@link #canTransitionTo(ToastState)}</p>
  * <br/>
  *
  * <p>创建时间：2020-09-25 10:18:31</p>
- * <p>更新时间：2020-09-25 10:18:31</p>
+ * <p>更新时间：2026-10-18 16:47:12</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -71,5 +79,32 @@ public enum ToastState {
      * 销毁
      * <p>当Toast被调用destroy()后，处于此状态</p>
      */
-    DESTROY
+    DESTROY;
+
+    /**
+     * 合法的状态转换表
+     */
+    private static final Map<ToastState, Set<ToastState>> TRANSITIONS = new EnumMap<>(ToastState.class);
+
+    static {
+        TRANSITIONS.put(ABLE_SHOW, EnumSet.of(SHOWING, ARCHIVING, DESTROY));
+        TRANSITIONS.put(SHOWING, EnumSet.of(SHOWN, ARCHIVING, HIDE, CLOSING, DESTROY));
+        TRANSITIONS.put(SHOWN, EnumSet.of(ARCHIVING, HIDE, CLOSING, DESTROY));
+        TRANSITIONS.put(ARCHIVING, EnumSet.of(ARCHIVE, DESTROY));
+        TRANSITIONS.put(ARCHIVE, EnumSet.of(ABLE_SHOW, DESTROY));
+        TRANSITIONS.put(HIDE, EnumSet.of(DESTROY));
+        TRANSITIONS.put(CLOSING, EnumSet.of(DESTROY));
+        TRANSITIONS.put(DESTROY, EnumSet.noneOf(ToastState.class));
+    }
+
+    /**
+     * <h2>能否转换至目标状态</h2>
+     * <p>除销毁外，任何状态都可直接转换为销毁</p>
+     *
+     * @param next 目标状态
+     * @return 能/否
+     */
+    public boolean canTransitionTo(@NonNull ToastState next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
 }
@@ -22,7 +22,7 @@ package org.pomo.toasterfx.model;
  * <br/>
  *
  * <p>创建时间：2020-09-25 10:22:08</p>
- * <p>更新时间：2020-09-25 10:22:08</p>
+ * <p>更新时间：2026-10-18 15:06:11</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -48,6 +48,18 @@ public interface ToastType {
      */
     int getOrder();
 
+    /**
+     * <h2>得到严重程度</h2>
+     * <p>值越大越严重，用于优先级调度、抢占与归档淘汰</p>
+     * <p>默认与顺位相同</p>
+     *
+     * @return 严重程度
+     * @see org.pomo.toasterfx.ToastHandler#SEVERITY_FIRST
+     */
+    default int getSeverity() {
+        return this.getOrder();
+    }
+
     /**
      * <h2>得到名字</h2>
      * <p>可能为ResourceBundle的key值</p>
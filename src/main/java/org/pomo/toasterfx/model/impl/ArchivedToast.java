@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.impl;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectPropertyBase;
+import javafx.beans.value.ChangeListener;
+import lombok.Getter;
+import lombok.NonNull;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.scalable.DigestSupport;
+import org.pomo.toasterfx.model.scalable.TextSupport;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <h2>归档记录</h2>
+ *
+ * <p>已归档消息体的享元，只保留历史列表与重建所需的：创建时间、类型、摘要、标题、内容、参数 与 重建器</p>
+ * <p>类型、参数、重建器通常为共享实例，每条记录仅占用一个对象头与七个字段</p>
+ * <p>压缩所得的记录，标题与内容只保留不超过 {@link #TEXT_LIMIT} 个字符的前缀，超出部分以省略号代替</p>
+ * <p>完整的文本只存在于归档日志中，重建时以前缀还原；二者均为null时，只能以摘要重建</p>
+ * <p>始终处于归档状态，不可直接展示，需通过{@link #rehydrate()}重建为真实的消息体</p>
+ * <p>基于值相等，以便列式存储按需生成的视图，能与已取出的记录互相比较</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:09:30</p>
+ * <p>更新时间：2026-10-18 21:19:07</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.scalable.ArchiveCompactable
+ */
+public class ArchivedToast implements Toast, DigestSupport, TextSupport {
+
+    /**
+     * 压缩时，标题与内容各自保留的最大字符数
+     */
+    public static final int TEXT_LIMIT = 32;
+
+    /**
+     * 省略字符串
+     */
+    private static final String ELLIPSIS = "...";
+
+    /**
+     * 归档状态（共享，只读）<br/>
+     * 永不变化，监听永远不会被触发，故不予保留，避免在共享实例上堆积
+     */
+    private static final ReadOnlyObjectProperty<ToastState> ARCHIVE_STATE =
+            new ReadOnlyObjectPropertyBase<ToastState>() {
+
+                @Override
+                public ToastState get() {
+                    return ToastState.ARCHIVE;
+                }
+
+                @Override
+                public Object getBean() {
+                    return null;
+                }
+
+                @Override
+                public String getName() {
+                    return "state";
+                }
+
+                @Override
+                public void addListener(InvalidationListener listener) {
+                }
+
+                @Override
+                public void removeListener(InvalidationListener listener) {
+                }
+
+                @Override
+                public void addListener(ChangeListener<? super ToastState> listener) {
+                }
+
+                @Override
+                public void removeListener(ChangeListener<? super ToastState> listener) {
+                }
+            };
+
+    /**
+     * 创建时间
+     */
+    @Getter
+    private final long createTime;
+
+    /**
+     * 类型
+     */
+    @Getter
+    @NonNull
+    private final ToastType type;
+
+    /**
+     * 摘要
+     */
+    @Getter
+    @NonNull
+    private final String digest;
+
+    /**
+     * 标题，可能为null
+     */
+    @Getter
+    private final String title;
+
+    /**
+     * 内容，可能为null
+     */
+    @Getter
+    private final String content;
+
+    /**
+     * 参数
+     */
+    @Getter
+    @NonNull
+    private final ToastParameter parameter;
+
+    /**
+     * 重建器，可能为null
+     */
+    @Getter
+    private final Function<ArchivedToast, ? extends Toast> rehydrator;
+
+    public ArchivedToast(long createTime, @NonNull ToastType type, @NonNull String digest,
+                         @NonNull ToastParameter parameter, Function<ArchivedToast, ? extends Toast> rehydrator) {
+        this(createTime, type, digest, null, null, parameter, rehydrator);
+    }
+
+    public ArchivedToast(long createTime, @NonNull ToastType type, @NonNull String digest,
+                         String title, String content,
+                         @NonNull ToastParameter parameter, Function<ArchivedToast, ? extends Toast> rehydrator) {
+        this.createTime = createTime;
+        this.type = type;
+        this.digest = digest;
+        this.title = title;
+        this.content = content;
+        this.parameter = parameter;
+        this.rehydrator = rehydrator;
+    }
+
+    /**
+     * <h2>截取前缀</h2>
+     * <p>超出 {@link #TEXT_LIMIT} 时，保留前缀并追加省略号；否则原样返回</p>
+     *
+     * @param text 文本，可能为null
+     * @return 前缀，可能为null
+     */
+    public static String prefix(String text) {
+
+        if (text == null || text.length() <= TEXT_LIMIT) return text;
+
+        int end = TEXT_LIMIT;
+
+        // 不拆分代理对
+        if (Character.isHighSurrogate(text.charAt(end - 1))) end--;
+
+        return text.substring(0, end) + ELLIPSIS;
+    }
+
+    /**
+     * <h2>是否可重建</h2>
+     *
+     * @return 是/否
+     */
+    public boolean isRehydratable() {
+        return this.rehydrator != null;
+    }
+
+    /**
+     * <h2>重建为真实的消息体</h2>
+     * <p>每次调用，都会生成新的消息体，其状态为可展示的</p>
+     *
+     * @return 消息体
+     */
+    public Toast rehydrate() {
+
+        if (this.rehydrator == null)
+            throw new IllegalArgumentException("toast[" + this + "] is not rehydratable.");
+
+        return this.rehydrator.apply(this);
+    }
+
+    /**
+     * <p>归档记录从不处于展示中，无需关闭</p>
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<ToastState> getStateProperty() {
+        return ARCHIVE_STATE;
+    }
+
+    @Override
+    public ToastState getState() {
+        return ToastState.ARCHIVE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        ArchivedToast that = (ArchivedToast) o;
+
+        return this.createTime == that.createTime && this.type == that.type && this.digest.equals(that.digest)
+                && Objects.equals(this.title, that.title) && Objects.equals(this.content, that.content)
+                && this.parameter == that.parameter && this.rehydrator == that.rehydrator;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(this.createTime) + this.type.hashCode()) + this.digest.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedToast[" + this.digest + "]";
+    }
+}
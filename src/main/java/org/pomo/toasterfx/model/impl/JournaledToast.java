@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.impl;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.pomo.toasterfx.component.ToastJournal;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastType;
+
+import java.util.function.Function;
+
+/**
+ * <h2>日志记录</h2>
+ *
+ * <p>归档日志中某一行的视图，每次读取都会生成新的实例</p>
+ * <p>基于所在日志与行号相等</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:39:05</p>
+ * <p>更新时间：2026-10-18 20:04:52</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see ToastJournal
+ */
+public class JournaledToast extends ArchivedToast {
+
+    /**
+     * 所在日志
+     */
+    @Getter
+    private final ToastJournal journal;
+
+    /**
+     * 行号
+     */
+    @Getter
+    private final long row;
+
+    public JournaledToast(@NonNull ToastJournal journal, long row,
+                          long createTime, @NonNull ToastType type, @NonNull String digest,
+                          String title, String content,
+                          @NonNull ToastParameter parameter, Function<ArchivedToast, ? extends Toast> rehydrator) {
+        super(createTime, type, digest, title, content, parameter, rehydrator);
+
+        this.journal = journal;
+        this.row = row;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) return true;
+        if (!(o instanceof JournaledToast)) return false;
+
+        JournaledToast that = (JournaledToast) o;
+
+        return this.journal == that.journal && this.row == that.row;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.row);
+    }
+
+    @Override
+    public String toString() {
+        return "JournaledToast[" + this.row + ", " + this.getDigest() + "]";
+    }
+}
@@ -15,30 +15,31 @@
  */
 package org.pomo.toasterfx.model.impl;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.pomo.toasterfx.ToastHelper;
+import org.pomo.toasterfx.component.ColumnarToastList;
+import org.pomo.toasterfx.component.JournalToastList;
 import org.pomo.toasterfx.model.AbstractToast;
 import org.pomo.toasterfx.model.MultiToast;
 import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastParameter;
 import org.pomo.toasterfx.model.scalable.ProgressCondition;
 
-import java.util.LinkedList;
 import java.util.function.Function;
 
 /**
  * <h2>列表消息体</h2>
  *
  * <p>多消息的具体实现，处理多消息的组装。</p>
+ * <p>消息集为日志消息列表时，销毁时不清空，其中的记录由归档日志持久保存</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 17:11:32</p>
- * <p>更新时间：2020-09-23 17:11:32</p>
+ * <p>更新时间：2026-10-18 17:58:34</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -54,7 +55,8 @@ public class ListToast extends AbstractToast<ListToast>
     private final ToastHelper toastHelper;
 
     /**
-     * 消息集 Wrapper
+     * 消息集 Wrapper<br/>
+     * 默认为列式存储，归档记录以原始类型数组保存，且可按下标快速访问
      */
     @Getter
     private final ObservableList<Toast> toasts;
@@ -63,10 +65,17 @@ public class ListToast extends AbstractToast<ListToast>
     public ListToast(@NonNull ToastParameter parameter,
                      @NonNull ToastHelper toastHelper,
                      @NonNull Function<ListToast, Node> nodeSupplier) {
+        this(parameter, toastHelper, nodeSupplier, new ColumnarToastList());
+    }
+
+    public ListToast(@NonNull ToastParameter parameter,
+                     @NonNull ToastHelper toastHelper,
+                     @NonNull Function<ListToast, Node> nodeSupplier,
+                     @NonNull ObservableList<Toast> toasts) {
         super(parameter, nodeSupplier);
 
         this.toastHelper = toastHelper;
-        this.toasts = FXCollections.observableList(new LinkedList<>());
+        this.toasts = toasts;
     }
 
     @Override
@@ -79,9 +88,12 @@ public class ListToast extends AbstractToast<ListToast>
 
         log.debug("{} archive toast left.", this.toasts.size());
 
-        // 销毁集合Toast、Node
-        this.toastHelper.destroy(this.toasts);
-        this.toasts.clear();
+        // 销毁集合Toast、Node；日志中的记录保留
+        if (!(this.toasts instanceof JournalToastList)) {
+
+            this.toastHelper.destroy(this.toasts);
+            this.toasts.clear();
+        }
 
         super.onDestroy();
 
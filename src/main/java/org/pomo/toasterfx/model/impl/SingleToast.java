@@ -15,6 +15,10 @@
  */
 package org.pomo.toasterfx.model.impl;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
 import javafx.event.Event;
 import javafx.scene.Node;
 import lombok.Getter;
@@ -35,10 +39,12 @@ import java.util.function.*;
  * <h2>单消息体</h2>
  *
  * <p>实现了{@code Toast} 的全部可扩展接口。</p>
+ * <p>设置了重建器，且未设置任何回调、未被合并过时，归档后可被压缩为{@code ArchivedToast}，标题与内容只保留前缀</p>
+ * <p>可携带原始的标题与内容，以便归档日志持久化</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 17:14:43</p>
- * <p>更新时间：2020-09-23 17:14:43</p>
+ * <p>更新时间：2026-10-18 21:19:07</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -49,13 +55,16 @@ import java.util.function.*;
  * @see Dockable
  * @see NodeRecyclable
  * @see DigestSupport
+ * @see OccurrenceSupport
+ * @see ArchiveCompactable
+ * @see TextSupport
  * @see ProgressCondition
  * @see CloseCondition
  */
 @Slf4j
 public class SingleToast extends AbstractToast<SingleToast>
         implements Archiveable, NodeDestroyable, Closeable, Dockable, NodeRecyclable,
-        DigestSupport,
+        DigestSupport, OccurrenceSupport, ArchiveCompactable, TextSupport,
         ProgressCondition, CloseCondition {
 
     // region {属性}
@@ -68,12 +77,38 @@ public class SingleToast extends AbstractToast<SingleToast>
     /**
      * 摘要
      */
-    private String digest;
+    private volatile String digest;
 
     /**
      * 摘要创建器
      */
-    private Supplier<String> digestSupplier;
+    private volatile Supplier<String> digestSupplier;
+
+    /**
+     * 标题
+     */
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private String title;
+
+    /**
+     * 内容
+     */
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private String content;
+
+    /**
+     * 出现次数 Wrapper
+     */
+    private final ReadOnlyIntegerWrapper occurrenceWrapper = new ReadOnlyIntegerWrapper(1);
+
+    /**
+     * 最后出现时间 Wrapper
+     */
+    private final ReadOnlyLongWrapper lastSeenTimeWrapper = new ReadOnlyLongWrapper(this.getCreateTime());
 
     /**
      * 是否显示关闭按钮
@@ -131,6 +166,14 @@ public class SingleToast extends AbstractToast<SingleToast>
     @Setter
     @Accessors(chain = true)
     private BiConsumer<Toast, Node> onUnDock;
+
+    /**
+     * 重建器<br/>
+     * 用于将归档记录重建为消息体，为null时不压缩
+     */
+    @Setter
+    @Accessors(chain = true)
+    private Function<ArchivedToast, ? extends Toast> rehydrator;
     // endregion
 
     public SingleToast(@NonNull ToastParameter parameter,
@@ -163,13 +206,55 @@ public class SingleToast extends AbstractToast<SingleToast>
     @Override
     public String getDigest() {
 
-        if (this.digest == null && this.digestSupplier != null) {
+        String digest = this.digest;
+        if (digest != null) return digest;
+
+        Supplier<String> digestSupplier = this.digestSupplier;
+
+        // 已由其他线程计算完成
+        if (digestSupplier == null) return this.digest;
+
+        digest = digestSupplier.get();
+
+        // 先写入摘要，再置空创建器
+        this.digest = digest;
+        this.digestSupplier = null;
+
+        return digest;
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty getOccurrenceProperty() {
+        return this.occurrenceWrapper.getReadOnlyProperty();
+    }
+
+    @Override
+    public ReadOnlyLongProperty getLastSeenTimeProperty() {
+        return this.lastSeenTimeWrapper.getReadOnlyProperty();
+    }
+
+    @Override
+    public void occur(int count, long lastSeenTime) {
 
-            this.digest = this.digestSupplier.get();
-            this.digestSupplier = null;
-        }
+        this.occurrenceWrapper.set(this.occurrenceWrapper.get() + count);
+        this.lastSeenTimeWrapper.set(lastSeenTime);
+    }
 
-        return this.digest;
+    @Override
+    public ArchivedToast compact() {
+
+        // 重建时，回调、展示设置、出现次数均会丢失；无标题与内容时，只能以摘要重建，均不压缩
+        if (this.rehydrator == null || this.getDigest() == null || this.hasAction() ||
+                (this.title == null && this.content == null) ||
+                this.occurrenceWrapper.get() > 1 ||
+                this.isShowClose != null || this.isProgress != null ||
+                this.onClose != null || this.onArchive != null || this.onNodeDestroy != null ||
+                this.onNodeRecycle != null || this.onDock != null || this.onUnDock != null) return null;
+
+        // 只保留有界的前缀，避免归档记录持有完整文本
+        return new ArchivedToast(this.getCreateTime(), this.type, this.getDigest(),
+                ArchivedToast.prefix(this.title), ArchivedToast.prefix(this.content),
+                this.getParameter(), this.rehydrator);
     }
 
     @Override
@@ -235,9 +320,12 @@ public class SingleToast extends AbstractToast<SingleToast>
         this.type = null;
         this.digest = null;
         this.digestSupplier = null;
+        this.title = null;
+        this.content = null;
 
         this.onClose = null;
 
         this.onArchive = null;
+        this.rehydrator = null;
     }
 }
@@ -26,7 +26,7 @@ import org.pomo.toasterfx.model.ToastType;
  * <br/>
  *
  * <p>创建时间：2020-09-23 17:25:41</p>
- * <p>更新时间：2020-09-23 17:25:41</p>
+ * <p>更新时间：2026-10-18 15:06:11</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -36,23 +36,23 @@ public enum ToastTypes implements ToastType {
     /**
      * 成功
      */
-    SUCCESS,
+    SUCCESS(0),
     /**
      * 失败
      */
-    FAIL,
+    FAIL(3),
     /**
      * 信息
      */
-    INFO,
+    INFO(1),
     /**
      * 警告
      */
-    WARN,
+    WARN(2),
     /**
      * 列表
      */
-    LIST;
+    LIST(0);
 
     @Getter
     private final String[] styleClass;
@@ -60,7 +60,15 @@ public enum ToastTypes implements ToastType {
     @Getter
     private final String name;
 
-    ToastTypes() {
+    /**
+     * 严重程度
+     * <p>与顺位不同：顺位用于列表中的展示顺序，此值用于优先级调度</p>
+     */
+    @Getter
+    private final int severity;
+
+    ToastTypes(int severity) {
+        this.severity = severity;
         this.name = ToastTypes.class.getName() + "." + this.name();
         this.styleClass = new String[]{"toast-type-" + this.name().toLowerCase(), "svg"};
     }
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+
+/**
+ * <h2>归档 可压缩的</h2>
+ *
+ * <p>实现此接口的{@code Toast}，归档后可被压缩为{@code ArchivedToast}，原消息体随即被销毁</p>
+ * <p>压缩后只保留历史列表所需的信息，点击“显示”时，再重建为真实的消息体</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:08:44</p>
+ * <p>更新时间：2026-10-18 17:08:44</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.Toast
+ * @see ArchivedToast
+ */
+@FunctionalInterface
+public interface ArchiveCompactable {
+
+    /**
+     * <h2>压缩为归档记录</h2>
+     * <p>压缩会丢失信息时（如：存在回调），应返回null，以保留原消息体</p>
+     *
+     * @return 归档记录，为null时不压缩
+     */
+    ArchivedToast compact();
+}
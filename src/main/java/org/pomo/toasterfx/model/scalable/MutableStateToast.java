@@ -15,16 +15,18 @@
  */
 package org.pomo.toasterfx.model.scalable;
 
+import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastState;
 
 /**
  * <h2>可变状态的消息体</h2>
  *
  * <p>实现此接口的{@code Toast}，允许修改状态</p>
+ * <p>状态的转换，应遵循{@link ToastState#canTransitionTo(ToastState)}</p>
  * <br/>
  *
  * <p>创建时间：2020-09-23 18:25:31</p>
- * <p>更新时间：2020-09-23 18:25:31</p>
+ * <p>更新时间：2026-10-18 16:47:35</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -38,4 +40,22 @@ public interface MutableStateToast {
      * @param toastState 状态
      */
     void setToastState(ToastState toastState);
+
+    /**
+     * <h2>比较并设置当前消息体的状态</h2>
+     * <p>仅当前状态为expect时，才修改为update</p>
+     * <p>默认实现非原子，实现类应以CAS覆盖此方法</p>
+     *
+     * @param expect 期望的当前状态
+     * @param update 新状态
+     * @return 是否修改成功
+     */
+    default boolean compareAndSetToastState(ToastState expect, ToastState update) {
+
+        if (((Toast) this).getState() != expect) return false;
+
+        this.setToastState(update);
+
+        return true;
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+import javafx.scene.Node;
+import lombok.NonNull;
+
+/**
+ * <h2>Node 可复用的</h2>
+ *
+ * <p>实现此接口的{@code Toast}，允许复用已回收的同类Node，而非创建新的Node</p>
+ * <p>只有实现了{@code Reusable}的Node，才会被回收</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 16:56:08</p>
+ * <p>更新时间：2026-10-18 16:56:08</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.Toast
+ * @see org.pomo.toasterfx.common.Reusable
+ */
+public interface NodeReusable {
+
+    /**
+     * <h2>得到可复用的Node类型</h2>
+     * <p>只会复用类型完全一致的Node</p>
+     *
+     * @return Node类型，为null时不复用
+     */
+    Class<? extends Node> getReusableNodeClass();
+
+    /**
+     * <h2>重新绑定Node</h2>
+     * <p>将已回收的Node，绑定至当前消息体</p>
+     *
+     * @param node 已回收的Node
+     */
+    void rebindNode(@NonNull Node node);
+}
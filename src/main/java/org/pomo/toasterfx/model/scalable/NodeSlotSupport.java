@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+/**
+ * <h2>Node槽位支持</h2>
+ *
+ * <p>实现此接口的{@code Toast}，由自身的槽位持有其Node，NodeHelper无需在全局映射中查找</p>
+ * <p>槽位中的值：null —— 无Node；Node —— 强引用；Reference —— 弱/软引用</p>
+ * <p>槽位只应由NodeHelper维护，可在任意线程中读写</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 18:13:40</p>
+ * <p>更新时间：2026-10-18 18:13:40</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.NodeHelper
+ */
+public interface NodeSlotSupport {
+
+    /**
+     * <h2>得到 Node槽位</h2>
+     *
+     * @return 槽位中的值
+     */
+    Object getNodeSlot();
+
+    /**
+     * <h2>以CAS修改 Node槽位</h2>
+     *
+     * @param expect 期望值
+     * @param update 新值
+     * @return 是否修改成功
+     */
+    boolean compareAndSetNodeSlot(Object expect, Object update);
+
+    /**
+     * <h2>修改 Node槽位，并返回旧值</h2>
+     *
+     * @param update 新值
+     * @return 旧值
+     */
+    Object getAndSetNodeSlot(Object update);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
+
+/**
+ * <h2>出现次数支持</h2>
+ *
+ * <p>实现此接口的{@code Toast}，可被合并重复的消息体，并记录出现次数与最后出现时间</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 15:36:22</p>
+ * <p>更新时间：2026-10-18 15:36:22</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.Toast
+ * @see org.pomo.toasterfx.component.ToastCoalescer
+ */
+public interface OccurrenceSupport {
+
+    /**
+     * <h2>得到 只读的出现次数Property</h2>
+     * <p>初始为1</p>
+     *
+     * @return 只读的出现次数Property
+     */
+    ReadOnlyIntegerProperty getOccurrenceProperty();
+
+    /**
+     * <h2>得到 只读的最后出现时间Property</h2>
+     * <p>初始为创建时间</p>
+     *
+     * @return 只读的最后出现时间Property（UTC）
+     */
+    ReadOnlyLongProperty getLastSeenTimeProperty();
+
+    /**
+     * <h2>再次出现</h2>
+     * <p>只应在ui线程中被调用</p>
+     *
+     * @param count        新增的出现次数
+     * @param lastSeenTime 最后出现时间（UTC）
+     */
+    void occur(int count, long lastSeenTime);
+}
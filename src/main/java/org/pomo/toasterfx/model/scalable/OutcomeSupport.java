@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+import org.pomo.toasterfx.model.ToastState;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <h2>结局支持</h2>
+ *
+ * <p>实现此接口的{@code Toast}，可异步得知其首个结局状态</p>
+ * <p>结局状态为：SHOWN、ARCHIVE、CLOSING、DESTROY，先到者为准</p>
+ * <p>自归档重置为可展示后（如：在历史中再次展示），结局重新计算</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 16:18:43</p>
+ * <p>更新时间：2026-10-18 20:46:05</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.model.Toast
+ * @see org.pomo.toasterfx.ToasterService#pushAsync(org.pomo.toasterfx.model.Toast)
+ */
+@FunctionalInterface
+public interface OutcomeSupport {
+
+    /**
+     * <h2>得到结局</h2>
+     * <p>首次调用时创建；若已处于结局状态，则立即完成</p>
+     * <p>返回的为消息体自身持有的结局，调用方不应主动完成或取消它</p>
+     * <p>通常在状态变更的线程（多为ui线程）中完成，耗时的后续操作应使用*Async方法</p>
+     *
+     * @return 结局
+     */
+    CompletableFuture<ToastState> getOutcome();
+
+    /**
+     * <h2>是否为结局状态</h2>
+     *
+     * @param state 状态
+     * @return 是/否
+     */
+    static boolean isOutcome(ToastState state) {
+        return state == ToastState.SHOWN || state == ToastState.ARCHIVE
+                || state == ToastState.CLOSING || state == ToastState.DESTROY;
+    }
+}
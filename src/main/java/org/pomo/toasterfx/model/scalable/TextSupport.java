@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.model.scalable;
+
+/**
+ * <h2>文本支持</h2>
+ *
+ * <p>实现此接口的{@code Toast}，可从其中得到原始的标题与内容</p>
+ * <p>用于归档日志的持久化，以及重建时还原消息条</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:36:12</p>
+ * <p>更新时间：2026-10-18 17:36:12</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see org.pomo.toasterfx.component.ToastJournal
+ */
+public interface TextSupport {
+
+    /**
+     * <h2>得到标题</h2>
+     *
+     * @return 标题，可能为null
+     */
+    String getTitle();
+
+    /**
+     * <h2>得到内容</h2>
+     *
+     * @return 内容，可能为null
+     */
+    String getContent();
+}
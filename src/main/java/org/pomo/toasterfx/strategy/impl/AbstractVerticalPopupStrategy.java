@@ -15,10 +15,7 @@
  */
 package org.pomo.toasterfx.strategy.impl;
 
-import javafx.animation.Animation;
-import javafx.animation.ParallelTransition;
-import javafx.animation.Transition;
-import javafx.collections.ObservableList;
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Rectangle2D;
 import javafx.stage.Popup;
 import javafx.util.Duration;
@@ -31,16 +28,20 @@ import org.pomo.toasterfx.model.ToastParameter;
 import org.pomo.toasterfx.strategy.PopupStrategy;
 import org.pomo.toasterfx.util.FXUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * <h2>抽象的 - 垂直 - 弹出策略</h2>
  *
  * <p>子类可继承此类，实现明确的弹出方式</p>
+ * <p>每个消息者持有一个可重定向的浮动控制器，校正时只更新其目标锚点，并保持当前速度</p>
  * <br/>
  *
  * <p>创建时间：2020-09-26 11:58:36</p>
- * <p>更新时间：2020-09-26 11:58:36</p>
+ * <p>更新时间：2026-10-18 21:13:40</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -61,19 +62,138 @@ public abstract class AbstractVerticalPopupStrategy implements PopupStrategy {
     private Duration duration;
 
     /**
-     * 并行动画
+     * 弹簧角频率<br/>
+     * 临界阻尼下，约 @duration 后到达目标
      */
-    private ParallelTransition parallelTransition;
+    private double omega;
+
+    /**
+     * 消息者 - 浮动控制器<br/>
+     * 消息者被销毁后，其浮动控制器随之回收
+     */
+    private Map<Toaster, VerticalFloatMotion> motions;
+
+    /**
+     * 运动中的 浮动控制器
+     */
+    private List<VerticalFloatMotion> activeMotions;
+
+    /**
+     * 浮动控制器 驱动器<br/>
+     * 存在运动中的浮动控制器时，才会运行
+     */
+    private AnimationTimer motionTimer;
+
+    /**
+     * 校正代数<br/>
+     * 未在最近一次校正中被更新的浮动控制器，会被停止
+     */
+    private long generation;
+
+    /**
+     * 消息者 垂直排列
+     */
+    private final VerticalLayout<Toaster> toasterLayout = new VerticalLayout<Toaster>() {
+
+        @Override
+        public double getHeight(Toaster toaster) {
+            return toaster.getHeight();
+        }
+
+        @Override
+        public double getNewAnchorY(Rectangle2D visualBounds, List<Toaster> toasters, int index,
+                                    double suffixHeight) {
+
+            Toaster toaster = toasters.get(index);
+
+            return AbstractVerticalPopupStrategy.this.getNewAnchorY(visualBounds, toasters, toaster, index,
+                    suffixHeight, toaster.getToast().getParameter());
+        }
+
+        @Override
+        public boolean isMulti(Toaster toaster) {
+            return toaster.getToast() instanceof MultiToast;
+        }
+
+        @Override
+        public boolean archive(Toaster toaster, int index) {
+
+            toaster.archive();
+
+            // 此时必定已存在【多消息体】，再判断其是否因↑的archive而产生 && 排除hide状态
+            return index == 0 && AbstractVerticalPopupStrategy.this.multiToastFactory.isShown();
+        }
+
+        @Override
+        public void place(Rectangle2D visualBounds, List<Toaster> toasters, int index, double newAnchorY) {
+
+            Toaster toaster = toasters.get(index);
+
+            double newAnchorX = AbstractVerticalPopupStrategy.this.getNewAnchorX(visualBounds, toasters, toaster,
+                    index, toaster.getToast().getParameter());
+
+            VerticalFloatMotion motion = AbstractVerticalPopupStrategy.this.motions.get(toaster);
+
+            // 首次校正此消息者时创建，此后一直复用
+            if (motion == null) {
+                motion = new VerticalFloatMotion(toaster.getPopup());
+                AbstractVerticalPopupStrategy.this.motions.put(toaster, motion);
+            }
+
+            motion.retarget(newAnchorX, newAnchorY);
+        }
+    };
 
     public AbstractVerticalPopupStrategy(@NonNull MultiToastFactory multiToastFactory,
                                          @NonNull Duration duration) {
         this.multiToastFactory = multiToastFactory;
         this.duration = duration;
 
-        this.parallelTransition = new ParallelTransition();
+        this.omega = 8 / Math.max(duration.toSeconds(), 0.001);
+
+        this.motions = new WeakHashMap<>();
+        this.activeMotions = new ArrayList<>();
+
+        this.motionTimer = new AnimationTimer() {
+
+            /**
+             * 上一帧时间（纳秒）
+             */
+            private long last;
+
+            /**
+             * 是否运行中
+             */
+            private boolean running;
+
+            @Override
+            public void start() {
+
+                // 仅在 停止 -> 运行 时重置，运行中的重定向沿用真实的帧间隔
+                if (!this.running) {
+                    this.running = true;
+                    this.last = 0;
+                }
+
+                super.start();
+            }
+
+            @Override
+            public void stop() {
+                this.running = false;
+                super.stop();
+            }
+
+            @Override
+            public void handle(long now) {
+
+                // 首帧按60帧计，且单帧步长不超过50毫秒，避免卡顿后跳跃
+                double delta = this.last == 0 ? 1.0 / 60 : Math.min((now - this.last) / 1e9, 0.05);
+                this.last = now;
 
-        // 当动画播放完毕时，清空子动画
-        this.parallelTransition.setOnFinished(it -> parallelTransition.getChildren().clear());
+                AbstractVerticalPopupStrategy.this.step(delta);
+            }
+        };
     }
 
     @Override
@@ -84,6 +204,10 @@ public abstract class AbstractVerticalPopupStrategy implements PopupStrategy {
         ToastParameter parameter = toaster.getToast().getParameter();
         Popup popup = toaster.getPopup();
 
+        // 消息者被复用时，停止其上一次的浮动
+        VerticalFloatMotion motion = this.motions.get(toaster);
+        if (motion != null) motion.stop();
+
         popup.setAnchorX(this.getAnchorX(visualBounds, toaster, parameter));
         popup.setAnchorY(this.getAnchorY(visualBounds, toaster, parameter));
     }
@@ -91,38 +215,65 @@ public abstract class AbstractVerticalPopupStrategy implements PopupStrategy {
     @Override
     public void adjust(@NonNull List<Toaster> toasters) {
 
-        // 停止正在播放的动画
-        this.parallelTransition.stop();
-
-        // 清空子动画
-        ObservableList<Animation> children = this.parallelTransition.getChildren();
-        children.clear();
+        this.generation++;
 
         // 得到当前可见边界
         Rectangle2D visualBounds = FXUtils.getVisualBounds();
 
+        // 因归档而提前终止，随后被推迟的校正会处理全部浮动控制器
+        if (!layout(visualBounds, toasters, this.toasterLayout)) return;
+
+        // 停止已不在可见列表中的浮动控制器，即：被移除的消息者
+        for (int i = this.activeMotions.size() - 1; i >= 0; i--) {
+
+            VerticalFloatMotion motion = this.activeMotions.get(i);
+
+            if (motion.generation != this.generation) motion.stop();
+        }
+
+        if (!this.activeMotions.isEmpty()) this.motionTimer.start();
+    }
+
+    /**
+     * <h2>垂直排列</h2>
+     * <p>单次遍历，计算每个元素的新Y轴坐标，并移除、归档超出边界的元素</p>
+     * <p>当前下标（含）至末尾的高度和，随遍历与移除递减，避免每次重新求和，整体O(n)</p>
+     *
+     * @param visualBounds 可见边界
+     * @param items        可见元素集合，超出边界的元素会被移除
+     * @param layout       元素操作
+     * @param <T>          元素类型
+     * @return 是否已完成，false表示因归档而提前终止
+     */
+    static <T> boolean layout(@NonNull Rectangle2D visualBounds,
+                              @NonNull List<T> items, @NonNull VerticalLayout<T> layout) {
+
         double minY = visualBounds.getMinY();
         double maxY = visualBounds.getMaxY();
 
-        for (int i = 0; i < toasters.size(); i++) {
+        double suffixHeight = 0;
+        for (T item : items) suffixHeight += layout.getHeight(item);
+
+        for (int i = 0; i < items.size(); i++) {
 
-            Toaster toaster = toasters.get(i);
-            ToastParameter parameter = toaster.getToast().getParameter();
+            T item = items.get(i);
+            double height = layout.getHeight(item);
 
-            double newAnchorX = this.getNewAnchorX(visualBounds, toasters, toaster, i, parameter);
-            double newAnchorY = this.getNewAnchorY(visualBounds, toasters, toaster, i, parameter);
+            double newAnchorY = layout.getNewAnchorY(visualBounds, items, i, suffixHeight);
 
             // 新的锚定Y值，超出边界
-            if (newAnchorY < minY || newAnchorY > maxY - toaster.getHeight()) {
+            if (newAnchorY < minY || newAnchorY > maxY - height) {
 
                 // 是否为 【多消息体者】
-                if (toaster.getToast() instanceof MultiToast) {// 是
+                if (layout.isMulti(item)) {// 是
 
                     // 存在下一个
-                    if (i + 1 < toasters.size()) {
+                    if (i + 1 < items.size()) {
 
                         // 移除 并 归档
-                        toasters.remove(i + 1).archive();
+                        T next = items.remove(i + 1);
+                        suffixHeight -= layout.getHeight(next);
+                        layout.archive(next, i + 1);
 
                         i--;
                         continue;
@@ -130,36 +281,47 @@ public abstract class AbstractVerticalPopupStrategy implements PopupStrategy {
                     } else {// 不存在，【列表消息】自身超高
 
                         log.warn("Message List Height over boundary , actual : {} ; expect : {} > Y < {} .",
-                                newAnchorY, minY, maxY - toaster.getHeight());
+                                newAnchorY, minY, maxY - height);
 
                         newAnchorY = minY;
 
-                        minY = minY + toaster.getHeight();
-                        maxY = maxY - toaster.getHeight();
+                        minY = minY + height;
+                        maxY = maxY - height;
                     }
 
                 } else {// 普通消息体 超出边界
 
                     // 移除 并 归档（可能产生多消息者）
-                    toasters.remove(i).archive();
+                    items.remove(i);
+                    suffixHeight -= height;
 
-                    // 此时必定已存在【多消息体】，再判断其是否因↑的archive而产生 && 排除hide状态
-                    if (i == 0 && this.multiToastFactory.isShown()) return;
+                    if (layout.archive(item, i)) return false;
 
                     i--;
                     continue;
                 }
             }
 
-            Popup popup = toaster.getPopup();
+            layout.place(visualBounds, items, i, newAnchorY);
 
-            double valueX = newAnchorX - popup.getAnchorX();
-            double valueY = newAnchorY - popup.getAnchorY();
-
-            children.add(new VerticalFloatTransition(popup, valueX, valueY));
+            suffixHeight -= height;
         }
 
-        this.parallelTransition.play();
+        return true;
+    }
+
+    /**
+     * <h2>步进</h2>
+     * <p>推进所有运动中的浮动控制器，全部到达目标时，停止驱动器</p>
+     *
+     * @param delta 时间步长（秒）
+     */
+    private void step(double delta) {
+
+        for (int i = this.activeMotions.size() - 1; i >= 0; i--)
+            this.activeMotions.get(i).step(delta);
+
+        if (this.activeMotions.isEmpty()) this.motionTimer.stop();
     }
 
     /**
@@ -229,51 +391,223 @@ public abstract class AbstractVerticalPopupStrategy implements PopupStrategy {
                                             @NonNull ToastParameter parameter);
 
     /**
-     * <h2>垂直浮动变换器</h2>
+     * <h2>得到 新的Y轴坐标</h2>
+     * <p>校正时使用，附带由layout递减维护的后缀高度和</p>
+     * <p>默认忽略后缀高度和，交由 getNewAnchorY(visualBounds, toasters, toaster, index, parameter)</p>
+     * <p>子类可覆写此方法直接使用后缀高度和，避免每个消息者重新求和</p>
+     *
+     * @param visualBounds 可见边界
+     * @param toasters     可见消息者集合
+     * @param toaster      消息者
+     * @param index        下标
+     * @param suffixHeight 此消息者（含）至末尾，所有可见消息者的高度和
+     * @param parameter    消息体属性
+     * @return 新的Y轴坐标
+     */
+    protected double getNewAnchorY(@NonNull Rectangle2D visualBounds,
+                                   @NonNull List<Toaster> toasters,
+                                   @NonNull Toaster toaster, int index, double suffixHeight,
+                                   @NonNull ToastParameter parameter) {
+        return this.getNewAnchorY(visualBounds, toasters, toaster, index, parameter);
+    }
+
+    /**
+     * <h2>垂直排列 - 元素操作</h2>
+     *
+     * <p>校正时，layout 对可见元素的全部访问</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 19:33:05</p>
+     * <p>更新时间：2026-10-18 21:13:40</p>
+     *
+     * @param <T> 元素类型
+     * @author Mr.Po
+     * @version 1.0
+     */
+    interface VerticalLayout<T> {
+
+        /**
+         * <h2>得到 高度</h2>
+         *
+         * @param item 元素
+         * @return 高度
+         */
+        double getHeight(T item);
+
+        /**
+         * <h2>得到 新的Y轴坐标</h2>
+         *
+         * @param visualBounds 可见边界
+         * @param items        可见元素集合
+         * @param index        下标
+         * @param suffixHeight 此元素（含）至末尾的高度和
+         * @return 新的Y轴坐标
+         */
+        double getNewAnchorY(Rectangle2D visualBounds, List<T> items, int index, double suffixHeight);
+
+        /**
+         * <h2>是否为 多消息体者</h2>
+         * <p>超出边界时，多消息体者保留，并移除其后一个元素</p>
+         *
+         * @param item 元素
+         * @return 是/否
+         */
+        boolean isMulti(T item);
+
+        /**
+         * <h2>归档</h2>
+         * <p>元素已从集合中移除</p>
+         *
+         * @param item  元素
+         * @param index 移除前的下标
+         * @return 是否终止此次排列
+         */
+        boolean archive(T item, int index);
+
+        /**
+         * <h2>放置</h2>
+         *
+         * @param visualBounds 可见边界
+         * @param items        可见元素集合
+         * @param index        下标
+         * @param newAnchorY   新的Y轴坐标
+         */
+        void place(Rectangle2D visualBounds, List<T> items, int index, double newAnchorY);
+    }
+
+    /**
+     * <h2>垂直浮动控制器</h2>
      *
-     * <p>进行垂直方向上的变换动画</p>
+     * <p>以临界阻尼弹簧，驱动弹窗向目标锚点运动</p>
+     * <p>与消息者一一对应，长期存在；目标变化时，保持当前速度继续运动，而非从头播放</p>
      * <br/>
      *
      * <p>创建时间：2020-09-27 15:13:39</p>
-     * <p>更新时间：2020-09-27 15:13:39</p>
+     * <p>更新时间：2026-10-18 12:41:09</p>
      *
      * @author Mr.Po
      * @version 1.0
      */
-    class VerticalFloatTransition extends Transition {
+    class VerticalFloatMotion {
+
+        /**
+         * 到达目标的距离阈值（像素）
+         */
+        private static final double REST_DISTANCE = 0.5;
+
+        /**
+         * 到达目标的速度阈值（像素/秒）
+         */
+        private static final double REST_VELOCITY = 5;
 
         private final Popup popup;
 
-        private final double anchorX;
-        private final double anchorY;
+        private double targetX;
+        private double targetY;
+
+        private double velocityX;
+        private double velocityY;
 
-        private final double valueX;
-        private final double valueY;
+        /**
+         * 是否运动中
+         */
+        private boolean active;
 
-        VerticalFloatTransition(@NonNull Popup popup, double valueX, double valueY) {
+        /**
+         * 最近一次被更新时的校正代数
+         */
+        private long generation;
+
+        VerticalFloatMotion(@NonNull Popup popup) {
             this.popup = popup;
-            this.setCycleDuration(AbstractVerticalPopupStrategy.this.duration);
+        }
 
-            this.anchorY = this.popup.getAnchorY();
-            this.anchorX = this.popup.getAnchorX();
+        /**
+         * <h2>重定向</h2>
+         *
+         * @param targetX 目标X轴坐标
+         * @param targetY 目标Y轴坐标
+         */
+        void retarget(double targetX, double targetY) {
 
-            this.valueX = valueX;
-            this.valueY = valueY;
+            this.targetX = targetX;
+            this.targetY = targetY;
+
+            this.generation = AbstractVerticalPopupStrategy.this.generation;
+
+            if (!this.active) {
+
+                this.active = true;
+                AbstractVerticalPopupStrategy.this.activeMotions.add(this);
+            }
         }
 
-        @Override
-        protected void interpolate(double frac) {
-            this.popup.setAnchorX((this.anchorX + (valueX * frac)));
-            this.popup.setAnchorY((this.anchorY + (valueY * frac)));
+        /**
+         * <h2>步进</h2>
+         *
+         * @param delta 时间步长（秒）
+         */
+        void step(double delta) {
+
+            double omega = AbstractVerticalPopupStrategy.this.omega;
+            double decay = Math.exp(-omega * delta);
+
+            double offsetX = this.popup.getAnchorX() - this.targetX;
+            double offsetY = this.popup.getAnchorY() - this.targetY;
+
+            double tempX = (this.velocityX + omega * offsetX) * delta;
+            double tempY = (this.velocityY + omega * offsetY) * delta;
+
+            this.velocityX = (this.velocityX - omega * tempX) * decay;
+            this.velocityY = (this.velocityY - omega * tempY) * decay;
+
+            offsetX = (offsetX + tempX) * decay;
+            offsetY = (offsetY + tempY) * decay;
+
+            // 已到达目标
+            if (Math.abs(offsetX) < REST_DISTANCE && Math.abs(offsetY) < REST_DISTANCE
+                    && Math.abs(this.velocityX) < REST_VELOCITY && Math.abs(this.velocityY) < REST_VELOCITY) {
+
+                this.popup.setAnchorX(this.targetX);
+                this.popup.setAnchorY(this.targetY);
+
+                this.stop();
+
+                return;
+            }
+
+            this.popup.setAnchorX(this.targetX + offsetX);
+            this.popup.setAnchorY(this.targetY + offsetY);
+        }
+
+        /**
+         * <h2>停止</h2>
+         * <p>停留于当前位置，并清空速度</p>
+         */
+        void stop() {
+
+            this.velocityX = 0;
+            this.velocityY = 0;
+
+            if (this.active) {
+
+                this.active = false;
+                AbstractVerticalPopupStrategy.this.activeMotions.remove(this);
+            }
         }
     }
 
     @Override
     public void onDestroy() {
 
-        this.parallelTransition.stop();
-        this.parallelTransition.getChildren().clear();
-        this.parallelTransition = null;
+        this.motionTimer.stop();
+        this.motionTimer = null;
+
+        this.activeMotions.clear();
+        this.activeMotions = null;
+
+        this.motions.clear();
+        this.motions = null;
 
         this.duration = null;
         this.multiToastFactory = null;
@@ -31,7 +31,7 @@ import java.util.List;
  * <br/>
  *
  * <p>创建时间：2020-09-27 15:37:17</p>
- * <p>更新时间：2020-09-27 15:37:17</p>
+ * <p>更新时间：2026-10-18 21:13:40</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -59,7 +59,15 @@ public class RightTopPopupStrategy extends AbstractVerticalPopupStrategy {
                                    @NonNull List<Toaster> toasters,
                                    @NonNull Toaster toaster, int index,
                                    @NonNull ToastParameter parameter) {
-        return visualBounds.getMinY() + parameter.getFixY()
-                + (toasters.stream().skip(index).mapToDouble(Toaster::getHeight).sum() - toaster.getHeight());
+        return this.getNewAnchorY(visualBounds, toasters, toaster, index,
+                toasters.stream().skip(index).mapToDouble(Toaster::getHeight).sum(), parameter);
+    }
+
+    @Override
+    protected double getNewAnchorY(@NonNull Rectangle2D visualBounds,
+                                   @NonNull List<Toaster> toasters,
+                                   @NonNull Toaster toaster, int index, double suffixHeight,
+                                   @NonNull ToastParameter parameter) {
+        return visualBounds.getMinY() + parameter.getFixY() + (suffixHeight - toaster.getHeight());
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.util;
+
+import javafx.application.Platform;
+import javafx.util.Duration;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>FX 脉冲执行器</h2>
+ *
+ * <p>将提交的任务暂存于无锁队列，同一时刻最多只有一个Platform.runLater等待执行，由其一次性执行全部任务</p>
+ * <p>大量任务提交时，不会塞满JavaFX的事件队列，也不会为每个任务分配CountDownLatch等对象</p>
+ * <p>可设置单次执行的时间预算，超出时，剩余任务留待下一次runLater执行，避免长时间占用ui线程</p>
+ * <p>任务按提交顺序执行，单个任务的异常不会影响其他任务；此类是线程安全的</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 16:38:26</p>
+ * <p>更新时间：2026-10-18 16:38:26</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ * @see FXUtils#getPulseExecutor()
+ */
+@Slf4j
+public class FXPulseExecutor implements Executor {
+
+    /**
+     * 待执行的任务
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 执行任务 是否已提交
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * 单次执行的时间预算（纳秒），小于等于0时，不限制
+     */
+    private volatile long budget;
+
+    /**
+     * <h2>设置 单次执行的时间预算</h2>
+     *
+     * @param budget 时间预算，为null或小于等于0时，不限制
+     */
+    public void setBudget(Duration budget) {
+        this.budget = budget == null || budget.isIndefinite() ? 0 : (long) (budget.toMillis() * 1_000_000);
+    }
+
+    /**
+     * <h2>执行</h2>
+     * <p>不等待执行完毕，即使当前为ui线程，也会在稍后执行</p>
+     *
+     * @param task 任务
+     */
+    @Override
+    public void execute(@NonNull Runnable task) {
+
+        this.tasks.add(task);
+
+        this.schedule();
+    }
+
+    /**
+     * <h2>提交</h2>
+     *
+     * @param task 任务
+     * @return 执行完毕时完成，任务异常时以异常完成
+     */
+    public CompletableFuture<Void> submit(@NonNull Runnable task) {
+        return this.submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * <h2>提交</h2>
+     *
+     * @param task 任务
+     * @return 任务的结果，任务异常时以异常完成
+     */
+    public <T> CompletableFuture<T> submit(@NonNull Callable<T> task) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        this.execute(() -> {
+
+            try {
+
+                future.complete(task.call());
+
+            } catch (Throwable e) {
+
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * <h2>得到 待执行的任务数量</h2>
+     *
+     * @return 数量
+     */
+    public int getPendingSize() {
+        return this.tasks.size();
+    }
+
+    /**
+     * <h2>调度</h2>
+     * <p>尚无执行任务时，向ui线程提交一个</p>
+     */
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true)) Platform.runLater(this::drain);
+    }
+
+    /**
+     * <h2>执行全部任务</h2>
+     * <p>超出时间预算时，剩余任务留待下一次执行</p>
+     */
+    private void drain() {
+
+        // 先释放，执行期间提交的任务，最多再产生一个执行任务
+        this.scheduled.set(false);
+
+        long budget = this.budget;
+        long deadline = System.nanoTime() + budget;
+
+        Runnable task;
+
+        while ((task = this.tasks.poll()) != null) {
+
+            try {
+
+                task.run();
+
+            } catch (Throwable e) {
+
+                log.error("pulse task execute fail.", e);
+            }
+
+            if (budget > 0 && System.nanoTime() - deadline >= 0) break;
+        }
+
+        if (!this.tasks.isEmpty()) this.schedule();
+    }
+}
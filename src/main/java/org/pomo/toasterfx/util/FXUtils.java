@@ -43,7 +43,7 @@ import java.util.function.Supplier;
  * <br/>
  *
  * <p>创建时间：2020年9月27日 15:50:32</p>
- * <p>更新时间：2020年9月27日 15:50:32</p>
+ * <p>更新时间：2026年10月18日 16:38:26</p>
  *
  * @author Mr.Po
  * @version 1.0
@@ -52,6 +52,32 @@ import java.util.function.Supplier;
 @UtilityClass
 public class FXUtils {
 
+    /**
+     * 共享的 FX 脉冲执行器
+     */
+    private final FXPulseExecutor PULSE_EXECUTOR = new FXPulseExecutor();
+
+    /**
+     * <h2>得到 共享的 FX 脉冲执行器</h2>
+     * <p>高频地向ui线程提交任务时，应使用此执行器，而非逐个runLater</p>
+     *
+     * @return FX 脉冲执行器
+     */
+    public FXPulseExecutor getPulseExecutor() {
+        return PULSE_EXECUTOR;
+    }
+
+    /**
+     * <h2>脉冲式的稍后执行</h2>
+     * <p>不阻塞，即使当前为ui线程，也会在稍后执行</p>
+     * <p>与其他脉冲任务合并为一次runLater</p>
+     *
+     * @param r 待执行run
+     */
+    public void pulseLater(Runnable r) {
+        PULSE_EXECUTOR.execute(r);
+    }
+
     /**
      * <h2>聪明的稍后执行</h2>
      * <p>当前为UI线程时，直接执行</p>
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.util;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>消息体 执行器</h2>
+ *
+ * <p>提供后台处理消息体时，默认使用的执行器</p>
+ * <p>JDK 21+ 时，使用虚拟线程；否则，使用共享的守护线程池（空闲时不保留线程）</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 11:40:08</p>
+ * <p>更新时间：2026-10-18 11:40:08</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@Slf4j
+@UtilityClass
+public class ToastExecutors {
+
+    /**
+     * 线程池中，空闲线程的存活时间（秒）
+     */
+    private final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * <h2>得到默认执行器</h2>
+     * <p>所有调用者共享同一实例，不应被关闭</p>
+     *
+     * @return 执行器
+     */
+    public Executor getDefault() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * <h2>创建执行器</h2>
+     *
+     * @return 执行器
+     */
+    private Executor create() {
+
+        try {
+
+            // 通过反射调用，以兼容JDK 8编译
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+            Executor executor = (Executor) method.invoke(null);
+
+            log.debug("virtual thread executor is used.");
+
+            return executor;
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+
+            log.debug("virtual thread is not supported, daemon thread pool is used.");
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                it -> {
+
+                    Thread thread = new Thread(it, "ToastExecutor-Thread-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+    }
+
+    /**
+     * <h2>延迟持有者</h2>
+     * <p>首次使用时，才创建执行器</p>
+     */
+    private static class Holder {
+
+        private static final Executor EXECUTOR = create();
+    }
+}
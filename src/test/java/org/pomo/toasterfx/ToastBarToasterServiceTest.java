@@ -15,14 +15,28 @@
  */
 package org.pomo.toasterfx;
 
+import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
+import javafx.scene.Node;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.pomo.toasterfx.control.impl.ToastBar;
+import org.pomo.toasterfx.model.PoolMetrics;
+import org.pomo.toasterfx.model.ReferenceType;
+import org.pomo.toasterfx.model.Toast;
 import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.SingleToast;
 import org.pomo.toasterfx.model.impl.ToastTypes;
+import org.pomo.toasterfx.util.FXUtils;
 import org.testfx.api.FxToolkit;
 
+import java.lang.ref.Reference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 public class ToastBarToasterServiceTest {
@@ -130,4 +144,343 @@ public class ToastBarToasterServiceTest {
 
         FxToolkit.setupFixture(service::destroy);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void initialize04() throws TimeoutException {
+
+        ToasterFactory toasterFactory = new ToasterFactory();
+        toasterFactory.setWarmUpSize(2);
+
+        ToastBarToasterService service = new ToastBarToasterService();
+        service.setToasterFactory(toasterFactory);
+
+        FxToolkit.setupFixture(service::initialize);
+
+        Assert.assertNotNull(toasterFactory.getWarmUpNodeSupplier());
+
+        PoolMetrics metrics = FxToolkit.setupFixture(toasterFactory::getPoolMetrics);
+
+        Assert.assertEquals(2, metrics.getIdle());
+        Assert.assertEquals(2, metrics.getCreated());
+        Assert.assertEquals(0, metrics.getMisses());
+
+        FxToolkit.setupFixture(service::destroy);
+    }
+
+    @Test
+    public void reuseNode() {
+
+        NodeHelper nodeHelper = service.getNodeHelper();
+        nodeHelper.setReusePoolCapacity(1);
+
+        SingleToast first = service.born("a", "b", ToastTypes.INFO);
+        SingleToast second = service.born("c", "d", ToastTypes.WARN);
+        SingleToast base = service.born(null, "e", ToastTypes.WARN);
+
+        Node node = FXUtils.smartGet(() -> nodeHelper.get(first));
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(first);
+            return null;
+        });
+
+        Assert.assertEquals(1, nodeHelper.getReusePoolSize());
+
+        // 同类消息条，复用并重新绑定
+        ToastBar reused = (ToastBar) FXUtils.smartGet(() -> nodeHelper.get(second));
+
+        Assert.assertSame(node, reused);
+        Assert.assertEquals("c", reused.getTitleProperty().get());
+        Assert.assertEquals("d", reused.getContentProperty().get());
+        Assert.assertEquals(0, nodeHelper.getReusePoolSize());
+
+        // 类型不一致时，不复用
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(second);
+            return null;
+        });
+
+        Assert.assertNotSame(node, FXUtils.smartGet(() -> nodeHelper.get(base)));
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(base);
+            return null;
+        });
+
+        nodeHelper.setReusePoolCapacity(0);
+    }
+
+    @Test
+    public void nodeSlot() {
+
+        NodeHelper nodeHelper = service.getNodeHelper();
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+
+        Node node = FXUtils.smartGet(() -> nodeHelper.get(toast));
+
+        Assert.assertSame(node, toast.getNodeSlot());
+
+        // 转为弱引用后，仍可取回同一Node
+        FXUtils.smartGet(() -> {
+            nodeHelper.archive(toast, node, ReferenceType.WEAK);
+            return null;
+        });
+
+        Assert.assertTrue(toast.getNodeSlot() instanceof Reference);
+        Assert.assertFalse(nodeHelper.tryGet(toast).isPresent());
+
+        int referenceSize = nodeHelper.getReferenceMapSize();
+
+        Assert.assertSame(node, FXUtils.smartGet(() -> nodeHelper.get(toast)));
+        Assert.assertEquals(referenceSize - 1, nodeHelper.getReferenceMapSize());
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(toast);
+            return null;
+        });
+
+        Assert.assertNull(toast.getNodeSlot());
+    }
+
+    @Test
+    public void reclaimedReference() throws InterruptedException {
+
+        NodeHelper nodeHelper = service.getNodeHelper();
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.archive(toast, nodeHelper.get(toast), ReferenceType.WEAK);
+            return null;
+        });
+
+        Assert.assertTrue(toast.getNodeSlot() instanceof Reference);
+
+        // 被回收后，轮询器将引用移出槽位，不再计入弱/软引用数量
+        for (int i = 0; i < 50 && toast.getNodeSlot() != null; i++) {
+
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+
+        Assert.assertNull(toast.getNodeSlot());
+    }
+
+    @Test
+    public void lruNode() {
+
+        NodeHelper nodeHelper = service.getNodeHelper();
+        nodeHelper.setLruCapacity(1);
+
+        SingleToast first = service.born("a", "b", ToastTypes.INFO);
+        SingleToast second = service.born("c", "d", ToastTypes.INFO);
+
+        Node firstNode = FXUtils.smartGet(() -> nodeHelper.get(first));
+        Node secondNode = FXUtils.smartGet(() -> nodeHelper.get(second));
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.archive(first, firstNode, ReferenceType.LRU);
+            return null;
+        });
+
+        Assert.assertEquals(1, nodeHelper.getLruSize());
+
+        // 超出容量，最久未使用的被销毁
+        FXUtils.smartGet(() -> {
+            nodeHelper.archive(second, secondNode, ReferenceType.LRU);
+            return null;
+        });
+
+        Assert.assertEquals(1, nodeHelper.getLruSize());
+        Assert.assertNull(first.getNodeSlot());
+
+        // 仍在LRU中的，可立即取回
+        Assert.assertSame(secondNode, FXUtils.smartGet(() -> nodeHelper.get(second)));
+        Assert.assertEquals(0, nodeHelper.getLruSize());
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(second);
+            return null;
+        });
+
+        nodeHelper.setLruCapacity(32);
+    }
+
+    @Test
+    public void recycleNode() throws InterruptedException {
+
+        NodeHelper nodeHelper = service.getNodeHelper();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        boolean[] onFxThread = new boolean[1];
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+        toast.setOnNodeRecycle(it -> {
+            onFxThread[0] = Platform.isFxApplicationThread();
+            latch.countDown();
+        });
+
+        // 不保留Node的强引用
+        FXUtils.smartGet(() -> {
+            nodeHelper.archive(toast, nodeHelper.get(toast), ReferenceType.WEAK);
+            return null;
+        });
+
+        for (int i = 0; i < 50 && latch.getCount() > 0; i++) {
+            System.gc();
+            latch.await(100, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(0, latch.getCount());
+        Assert.assertTrue(onFxThread[0]);
+
+        FXUtils.smartGet(() -> {
+            nodeHelper.forget(toast);
+            return null;
+        });
+    }
+
+    @Test
+    public void compact() {
+
+        SingleToast toast = service.born("a", "b", ToastTypes.WARN);
+
+        ArchivedToast archivedToast = toast.compact();
+
+        Assert.assertNotNull(archivedToast);
+        Assert.assertEquals(toast.getCreateTime(), archivedToast.getCreateTime());
+        Assert.assertEquals(toast.getDigest(), archivedToast.getDigest());
+        Assert.assertEquals(ToastTypes.WARN, archivedToast.getType());
+        Assert.assertEquals(ToastState.ARCHIVE, archivedToast.getState());
+
+        Assert.assertEquals("a", archivedToast.getTitle());
+        Assert.assertEquals("b", archivedToast.getContent());
+
+        // 归档记录从不处于展示中，关闭无效果；状态永不变化，监听不予保留
+        archivedToast.close();
+        archivedToast.getStateProperty().addListener((observable, oldValue, newValue) -> Assert.fail());
+        Assert.assertEquals(ToastState.ARCHIVE, archivedToast.getStateProperty().get());
+
+        SingleToast rehydrated = (SingleToast) archivedToast.rehydrate();
+
+        Assert.assertEquals(ToastState.ABLE_SHOW, rehydrated.getState());
+        Assert.assertEquals(ToastTypes.WARN, rehydrated.getType());
+        Assert.assertEquals("a", rehydrated.getTitle());
+        Assert.assertEquals("b", rehydrated.getContent());
+        Assert.assertEquals(toast.getDigest(), rehydrated.getDigest());
+
+        // 存在回调时，不压缩
+        Assert.assertNull(service.born("a", "b", ToastTypes.WARN).setOnDock((it, node) -> {
+        }).compact());
+
+        // 超长的标题与内容，只保留前缀
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < ArchivedToast.TEXT_LIMIT * 4; i++) builder.append((char) ('a' + i % 26));
+        String text = builder.toString();
+
+        ArchivedToast bounded = service.born(text, text, ToastTypes.INFO).compact();
+        String prefix = text.substring(0, ArchivedToast.TEXT_LIMIT) + "...";
+
+        Assert.assertEquals(prefix, bounded.getTitle());
+        Assert.assertEquals(prefix, bounded.getContent());
+        Assert.assertEquals(prefix, ((SingleToast) bounded.rehydrate()).getContent());
+
+        // 未超长时，原样保留
+        String shortText = text.substring(0, ArchivedToast.TEXT_LIMIT);
+        Assert.assertSame(shortText, ArchivedToast.prefix(shortText));
+    }
+
+    @Test
+    public void toastState() throws InterruptedException {
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+
+        Assert.assertFalse(toast.compareAndSetToastState(ToastState.SHOWN, ToastState.CLOSING));
+        Assert.assertTrue(toast.compareAndSetToastState(ToastState.ABLE_SHOW, ToastState.ARCHIVING));
+
+        // 非ui线程中的修改，合并后同步至视图
+        CountDownLatch latch = new CountDownLatch(1);
+        toast.getStateProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == ToastState.ABLE_SHOW && Platform.isFxApplicationThread()) latch.countDown();
+        });
+
+        toast.setToastState(ToastState.ARCHIVE);
+        toast.setToastState(ToastState.ABLE_SHOW);
+
+        Assert.assertEquals(ToastState.ABLE_SHOW, toast.getState());
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        toast.setToastState(ToastState.DESTROY);
+
+        Assert.assertEquals(ToastState.DESTROY, toast.getState());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalToastState() {
+        service.born("a", "b", ToastTypes.INFO).setToastState(ToastState.ARCHIVE);
+    }
+
+    @Test
+    public void pushAsync() {
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+        toast.setToastState(ToastState.ARCHIVING);
+
+        CompletableFuture<ToastState> outcome = service.pushAsync(toast).toCompletableFuture();
+
+        Assert.assertTrue(outcome.isCompletedExceptionally());
+
+        // 已处于结局状态时，立即完成
+        SingleToast destroyed = service.born("a", "b", ToastTypes.INFO);
+        destroyed.setToastState(ToastState.DESTROY);
+
+        Assert.assertEquals(ToastState.DESTROY, destroyed.getOutcome().getNow(null));
+    }
+
+    @Test
+    public void pushAsyncOutcome() throws Exception {
+
+        SingleToast toast = service.born("a", "b", ToastTypes.INFO);
+
+        CompletableFuture<ToastState> outcome = service.pushAsync(toast).toCompletableFuture();
+
+        // 派生的结局，调用方的取消不影响消息体自身的结局
+        SingleToast other = service.born("a", "b", ToastTypes.INFO);
+        service.pushAsync(other).toCompletableFuture().cancel(false);
+        Assert.assertFalse(other.getOutcome().isCancelled());
+
+        this.archive(toast);
+
+        ToastState state = outcome.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(state == ToastState.SHOWN || state == ToastState.ARCHIVE);
+
+        // 归档后重置为可展示，结局重新计算
+        SingleToast archived = service.born("a", "b", ToastTypes.INFO);
+        archived.setToastState(ToastState.ARCHIVING);
+        archived.setToastState(ToastState.ARCHIVE);
+
+        Assert.assertEquals(ToastState.ARCHIVE, archived.getOutcome().getNow(null));
+
+        archived.setToastState(ToastState.ABLE_SHOW);
+
+        Assert.assertFalse(archived.getOutcome().isDone());
+
+        outcome = service.pushAsync(archived).toCompletableFuture();
+
+        Assert.assertFalse(outcome.isDone());
+
+        this.archive(archived);
+
+        state = outcome.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(state == ToastState.SHOWN || state == ToastState.ARCHIVE);
+    }
+
+    /**
+     * 与溢出归档相同，以CAS抢先归档；已被取走展示时，由展示完成结局
+     */
+    private void archive(SingleToast toast) {
+        if (toast.compareAndSetToastState(ToastState.ABLE_SHOW, ToastState.ARCHIVING))
+            toast.setToastState(ToastState.ARCHIVE);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class VisualToasterRegistryTest {
+
+    private static List<Toaster> toList(VisualToasterRegistry registry) {
+
+        List<Toaster> list = new ArrayList<>();
+        registry.collect(it -> true, list);
+
+        return list;
+    }
+
+    @Test
+    public void addAndRemove() {
+
+        VisualToasterRegistry registry = new VisualToasterRegistry();
+
+        Toaster a = new Toaster();
+        Toaster b = new Toaster();
+        Toaster c = new Toaster();
+
+        registry.add(a);
+        registry.add(b);
+        registry.add(0, c);
+
+        Assert.assertEquals(Arrays.asList(c, a, b), toList(registry));
+
+        Assert.assertTrue(registry.remove(a));
+        Assert.assertFalse(registry.remove(a));
+        Assert.assertEquals(-1, a.getVisualIndex());
+
+        Assert.assertEquals(2, registry.size());
+        Assert.assertEquals(Arrays.asList(c, b), toList(registry));
+
+        registry.clear();
+        Assert.assertTrue(registry.isEmpty());
+        Assert.assertEquals(-1, b.getVisualIndex());
+    }
+
+    @Test
+    public void compact() {
+
+        VisualToasterRegistry registry = new VisualToasterRegistry();
+
+        List<Toaster> toasters = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+
+            Toaster toaster = new Toaster();
+
+            toasters.add(toaster);
+            registry.add(toaster);
+        }
+
+        // 移除偶数位，留下大量空位
+        for (int i = 0; i < 100; i += 2) Assert.assertTrue(registry.remove(toasters.get(i)));
+
+        Toaster head = new Toaster();
+        registry.add(0, head);
+
+        List<Toaster> list = toList(registry);
+
+        Assert.assertEquals(51, list.size());
+        Assert.assertSame(head, list.get(0));
+
+        for (int i = 1; i < list.size(); i++) {
+
+            Assert.assertSame(toasters.get(2 * i - 1), list.get(i));
+            Assert.assertTrue(registry.remove(list.get(i)));
+        }
+
+        Assert.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void showing() {
+
+        VisualToasterRegistry registry = new VisualToasterRegistry();
+
+        List<Toaster> toasters = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+
+            Toaster toaster = new Toaster();
+
+            toasters.add(toaster);
+            registry.add(toaster);
+        }
+
+        // 乱序标记，子集仍按展示顺序排列
+        for (int i = 39; i >= 0; i -= 2) registry.markShowing(toasters.get(i));
+        registry.markShowing(toasters.get(39));
+
+        Assert.assertEquals(20, registry.showing().size());
+
+        // 移除后压缩，子集顺序不变
+        for (int i = 0; i < 30; i++) Assert.assertTrue(registry.remove(toasters.get(i)));
+
+        Toaster head = new Toaster();
+        registry.add(0, head);
+        registry.markShowing(head);
+
+        List<Toaster> expected = new ArrayList<>();
+        expected.add(head);
+        for (int i = 31; i < 40; i += 2) expected.add(toasters.get(i));
+
+        Assert.assertEquals(expected, registry.showing());
+
+        // 已被移出子集的，取消标记时忽略
+        registry.showing().remove(toasters.get(33));
+        registry.unmarkShowing(toasters.get(33));
+        registry.unmarkShowing(toasters.get(35));
+
+        Assert.assertEquals(Arrays.asList(head, toasters.get(31), toasters.get(37), toasters.get(39)),
+                registry.showing());
+
+        registry.clear();
+        Assert.assertTrue(registry.showing().isEmpty());
+    }
+}
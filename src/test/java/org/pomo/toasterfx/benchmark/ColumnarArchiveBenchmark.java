@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.benchmark;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.component.ColumnarToastList;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <h2>列式归档 基准测试</h2>
+ *
+ * <p>对比 LinkedList（原实现） 与 ColumnarToastList（现实现），在 100k 条归档记录时的：</p>
+ * <p>滚动：模拟表格滚动一屏，按下标读取可见区域内的每一行</p>
+ * <p>堆占用：以辅助计数器 bytesPerEntry 报告每条记录的平均堆占用（含摘要、标题、内容），摘要共 1000 种，每条均为新实例</p>
+ * <p>辅助计数器在各测量轮次间累加，故堆占用只测量一轮</p>
+ * <p>记录种类：</p>
+ * <p>1. digest：只有摘要的归档记录</p>
+ * <p>2. text：带标题与内容的消息体经压缩所得的归档记录（启用archiveCompact时的归档），标题与内容只保留前缀</p>
+ * <p>3. toast：未压缩的消息体（archiveCompact默认关闭时的归档），两种列表均以对象保存</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 17:31:26</p>
+ * <p>更新时间：2026-10-18 21:19:07</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarArchiveBenchmark {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    private static final Function<ArchivedToast, Toast> REHYDRATOR = it -> null;
+
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * 记录种类
+     */
+    @Param({"digest", "text", "toast"})
+    public String kind;
+
+    /**
+     * 可见行数
+     */
+    @Param({"30"})
+    public int visibleRows;
+
+    /**
+     * 每次滚动的行数
+     */
+    private final int step = 997;
+
+    private ObservableList<Toast> linkedList;
+
+    private ObservableList<Toast> columnarList;
+
+    private int firstRow;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        List<Toast> records = records(this.size, this.kind);
+
+        this.linkedList = FXCollections.observableList(new LinkedList<>(records));
+
+        this.columnarList = new ColumnarToastList();
+        this.columnarList.addAll(records);
+    }
+
+    @Benchmark
+    public void linkedListScroll(Blackhole blackhole) {
+        this.scroll(this.linkedList, blackhole);
+    }
+
+    @Benchmark
+    public void columnarScroll(Blackhole blackhole) {
+        this.scroll(this.columnarList, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object linkedListFootprint(Footprint footprint) {
+        return footprint.measure(this.size, this.kind,
+                records -> FXCollections.observableList(new LinkedList<>(records)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.SingleShotTime)
+    public Object columnarFootprint(Footprint footprint) {
+        return footprint.measure(this.size, this.kind, records -> {
+
+            ObservableList<Toast> list = new ColumnarToastList();
+            list.addAll(records);
+
+            return list;
+        });
+    }
+
+    private void scroll(List<Toast> list, Blackhole blackhole) {
+
+        this.firstRow = (this.firstRow + this.step) % (this.size - this.visibleRows);
+
+        for (int i = this.firstRow; i < this.firstRow + this.visibleRows; i++) blackhole.consume(list.get(i));
+    }
+
+    private static List<Toast> records(int size, String kind) {
+
+        List<Toast> records = new ArrayList<>(size);
+
+        long createTime = System.currentTimeMillis();
+
+        for (int i = 0; i < size; i++) {
+
+            ToastTypes type = ToastTypes.values()[i % 4];
+            String digest = new String("backend node " + (i % 1000) + " is unreachable");
+            String content = "connection refused after 3 retries, request " + i
+                    + ", see the service log for the full stack trace of this failure";
+
+            switch (kind) {
+                case "digest":
+                    records.add(new ArchivedToast(createTime + i, type, digest, PARAMETER, null));
+                    break;
+                case "text":
+                    records.add(new SingleToast(PARAMETER, type, digest, it -> null)
+                            .setTitle(digest).setContent(content).setRehydrator(REHYDRATOR).compact());
+                    break;
+                default:
+                    records.add(new SingleToast(PARAMETER, type, digest, it -> null)
+                            .setTitle(digest).setContent(content));
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * <h2>堆占用</h2>
+     *
+     * <p>以辅助计数器报告每条记录的平均堆占用</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 17:31:26</p>
+     * <p>更新时间：2026-10-18 17:31:26</p>
+     *
+     * @author Mr.Po
+     * @version 1.0
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerEntry;
+
+        private Object measure(int size, String kind, Function<List<Toast>, List<Toast>> factory) {
+
+            long before = used();
+
+            List<Toast> list = factory.apply(records(size, kind));
+
+            this.bytesPerEntry = (used() - before) / size;
+
+            return list;
+        }
+
+        private static long used() {
+
+            Runtime runtime = Runtime.getRuntime();
+
+            for (int i = 0; i < 3; i++) System.gc();
+
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ColumnarArchiveBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.component.SimpleDigestCalculator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * <h2>摘要计算 基准测试</h2>
+ *
+ * <p>对比 流式连接后整体替换、截取（原实现） 与 单次遍历、达到长度限制即停止（现实现）</p>
+ * <p>内容长度为 100、1万、100万 个字符，每 80 个字符一个换行；摘要长度限制为 100 或不限（-1）</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 19:04:33</p>
+ * <p>更新时间：2026-10-18 19:04:33</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    @Param({"100", "-1"})
+    public int length;
+
+    private final String title = "Connection refused";
+
+    private String content;
+
+    private Integer len;
+
+    private SimpleDigestCalculator calculator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        Random random = new Random(42);
+
+        char[] chars = new char[this.size];
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = i % 80 == 79 ? '\n' : (char) ('a' + random.nextInt(26));
+
+        this.content = new String(chars);
+        this.len = this.length < 0 ? null : this.length;
+        this.calculator = new SimpleDigestCalculator(this.len, "\t", "...");
+    }
+
+    @Benchmark
+    public String joinReplace() {
+
+        String digest = Arrays.stream(new String[]{this.title, this.content})
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("\t"))
+                .replace("\n", "\t");
+
+        if (this.len != null && digest.length() > this.len)
+            digest = digest.substring(0, this.len) + "...";
+
+        return digest;
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return this.calculator.apply(this.title, this.content);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DigestBenchmark.class.getSimpleName()).build()).run();
+    }
+}
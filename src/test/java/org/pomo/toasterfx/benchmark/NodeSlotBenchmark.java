@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.benchmark;
+
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>Node 引用维护 基准测试</h2>
+ *
+ * <p>对比 两个同步HashMap（原实现） 与 消息体上的Node槽位（现实现），在 100k 条已归档（弱引用）消息时的耗时</p>
+ * <p>每次操作模拟一次：重新展示（取出弱引用，转为强引用）、查找Node、再次归档（转为弱引用）</p>
+ * <p>NodeHelper的方法需在ui线程中调用，此处按其逻辑分别复现两种存储</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 18:27:09</p>
+ * <p>更新时间：2026-10-18 18:27:09</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeSlotBenchmark {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * 每次操作的步长，避免连续访问
+     */
+    private final int step = 997;
+
+    private SingleToast[] toasts;
+
+    /**
+     * 保持Node的强可达，避免弱引用被GC清除
+     */
+    private Node[] nodes;
+
+    private Map<Toast, Node> map;
+
+    private Map<Toast, Reference<Node>> referenceMap;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        this.toasts = new SingleToast[this.size];
+        this.nodes = new Node[this.size];
+
+        this.map = Collections.synchronizedMap(new HashMap<>());
+        this.referenceMap = Collections.synchronizedMap(new HashMap<>());
+
+        for (int i = 0; i < this.size; i++) {
+
+            this.toasts[i] = new SingleToast(PARAMETER, ToastTypes.INFO, "digest" + i, it -> null);
+            this.nodes[i] = new Rectangle();
+
+            this.referenceMap.put(this.toasts[i], new WeakReference<>(this.nodes[i]));
+            this.toasts[i].compareAndSetNodeSlot(null, new WeakReference<>(this.nodes[i]));
+        }
+    }
+
+    @Benchmark
+    public void synchronizedMap(Blackhole blackhole) {
+
+        Toast toast = this.next();
+
+        // get
+        Node node = this.map.get(toast);
+        if (node == null) {
+
+            Reference<Node> reference = this.referenceMap.remove(toast);
+            node = reference.get();
+            reference.clear();
+
+            this.map.put(toast, node);
+        }
+
+        // tryGet
+        blackhole.consume(this.map.get(toast));
+
+        // archive
+        if (this.referenceMap.containsKey(toast) || this.map.get(toast) != node) throw new IllegalStateException();
+
+        this.referenceMap.put(toast, new WeakReference<>(node));
+        this.map.remove(toast);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void nodeSlot(Blackhole blackhole) {
+
+        SingleToast toast = this.next();
+
+        // get
+        Object slot = toast.getNodeSlot();
+        Node node;
+        if (slot instanceof Node) node = (Node) slot;
+        else {
+
+            toast.compareAndSetNodeSlot(slot, null);
+
+            Reference<Node> reference = (Reference<Node>) slot;
+            node = reference.get();
+            reference.clear();
+
+            toast.getAndSetNodeSlot(node);
+        }
+
+        // tryGet
+        slot = toast.getNodeSlot();
+        blackhole.consume(slot instanceof Node ? slot : null);
+
+        // archive
+        if (toast.getNodeSlot() != node) throw new IllegalStateException();
+
+        toast.compareAndSetNodeSlot(node, new WeakReference<>(node));
+    }
+
+    private SingleToast next() {
+
+        this.cursor = (this.cursor + this.step) % this.size;
+
+        return this.toasts[this.cursor];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NodeSlotBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.benchmark;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.PropertyValueFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.component.ColumnarToastList;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastType;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+import org.pomo.toasterfx.util.FXUtils;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>表格滚动 基准测试</h2>
+ *
+ * <p>对比 LinkedList（原实现） 与 ColumnarToastList（现实现），在 100k 条归档消息时，真实TableView滚动一屏的耗时</p>
+ * <p>每次滚动后，在ui线程中执行样式与布局，由表格的单元格按下标读取可见行</p>
+ * <p>需要图形环境，无显示器时，可使用Monocle：-Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 20:40:12</p>
+ * <p>更新时间：2026-10-18 20:40:12</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableViewScrollBenchmark {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    @Param({"linked", "columnar"})
+    public String list;
+
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * 每次滚动的行数
+     */
+    private final int step = 997;
+
+    private TableView<Toast> table;
+
+    private int firstRow;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // 启动JavaFX环境
+        new JFXPanel();
+
+        ObservableList<Toast> toasts = "linked".equals(this.list)
+                ? FXCollections.observableList(new LinkedList<>())
+                : new ColumnarToastList();
+
+        long createTime = System.currentTimeMillis();
+
+        for (int i = 0; i < this.size; i++)
+            toasts.add(new ArchivedToast(createTime + i, ToastTypes.values()[i % 4],
+                    "backend node " + (i % 1000) + " is unreachable", PARAMETER, null));
+
+        FXUtils.smartLater(() -> {
+
+            TableColumn<Toast, Long> colDate = new TableColumn<>("date");
+            colDate.setCellValueFactory(new PropertyValueFactory<>("createTime"));
+
+            TableColumn<Toast, ToastType> colType = new TableColumn<>("type");
+            colType.setCellValueFactory(new PropertyValueFactory<>("type"));
+
+            TableColumn<Toast, String> colDigest = new TableColumn<>("digest");
+            colDigest.setCellValueFactory(new PropertyValueFactory<>("digest"));
+
+            this.table = new TableView<>(toasts);
+            this.table.getColumns().add(colDate);
+            this.table.getColumns().add(colType);
+            this.table.getColumns().add(colDigest);
+
+            new Scene(this.table, 800, 600);
+
+            this.layout();
+        });
+    }
+
+    @Benchmark
+    public int scroll() {
+
+        this.firstRow = (this.firstRow + this.step) % this.size;
+
+        FXUtils.smartLater(() -> {
+
+            this.table.scrollTo(this.firstRow);
+            this.layout();
+        });
+
+        return this.firstRow;
+    }
+
+    private void layout() {
+        this.table.applyCss();
+        this.table.layout();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TableViewScrollBenchmark.class.getSimpleName()).build()).run();
+    }
+}
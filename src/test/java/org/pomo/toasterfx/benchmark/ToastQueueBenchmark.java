@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.component.PriorityToastQueue;
+import org.pomo.toasterfx.component.ToastRingBuffer;
+import org.pomo.toasterfx.model.OverflowPolicy;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>消息体队列 基准测试</h2>
+ *
+ * <p>对比 LinkedBlockingQueue、ToastRingBuffer 与 PriorityToastQueue，在 1、8、64 个push线程下的入队吞吐量</p>
+ * <p>PriorityToastQueue 下，push的消息体轮流使用各消息类型；轮转下标由各push线程独占，避免线程间争用</p>
+ * <p>后台以单线程持续卸载队列，模拟ToastHandler的消费</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 10:31:52</p>
+ * <p>更新时间：2026-10-18 21:31:02</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToastQueueBenchmark {
+
+    @Param({"linked", "ring", "priority"})
+    public String queue;
+
+    private BlockingQueue<Toast> toasts;
+
+    private Thread drainer;
+
+    private Toast[] toast;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        ToastTypes[] types = {ToastTypes.INFO, ToastTypes.SUCCESS, ToastTypes.WARN, ToastTypes.FAIL};
+
+        this.toast = new Toast[types.length];
+
+        for (int i = 0; i < types.length; i++)
+            this.toast[i] = new SingleToast(ToastParameter.builder().build(), types[i], "benchmark", it -> null);
+
+        switch (this.queue) {
+
+            case "ring":
+                this.toasts = new ToastRingBuffer(1 << 16, OverflowPolicy.BLOCK);
+                break;
+
+            case "priority":
+                PriorityToastQueue priorityToastQueue = new PriorityToastQueue(1 << 14);
+                priorityToastQueue.setOnOverflow(it -> {
+                });
+                this.toasts = priorityToastQueue;
+                break;
+
+            default:
+                this.toasts = new LinkedBlockingQueue<>();
+        }
+
+        this.drainer = new Thread(() -> {
+
+            List<Toast> list = new ArrayList<>();
+
+            try {
+
+                while (!Thread.currentThread().isInterrupted()) {
+
+                    list.add(this.toasts.take());
+                    this.toasts.drainTo(list);
+                    list.clear();
+                }
+
+            } catch (InterruptedException ignored) {
+            }
+        });
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+
+        this.drainer.interrupt();
+        this.drainer.join();
+    }
+
+    @Benchmark
+    public boolean push(Cursor cursor) {
+        return this.toasts.offer(this.toast[cursor.next()]);
+    }
+
+    /**
+     * <h2>轮转下标</h2>
+     *
+     * <p>每个push线程一份，起点随机，使各线程的消息类型交错</p>
+     * <br/>
+     *
+     * <p>创建时间：2026-10-18 21:31:02</p>
+     * <p>更新时间：2026-10-18 21:31:02</p>
+     *
+     * @author Mr.Po
+     * @version 1.0
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            this.index = ThreadLocalRandom.current().nextInt(4);
+        }
+
+        private int next() {
+            return this.index++ & 3;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        for (int threads : new int[]{1, 8, 64}) {
+
+            Options options = new OptionsBuilder()
+                    .include(ToastQueueBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.ListChangeListener;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.*;
+
+public class ColumnarToastListTest {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    private static Toast newToast(int i) {
+
+        // 每隔7条，混入一条非归档记录
+        if (i % 7 == 0) return new SingleToast(PARAMETER, ToastTypes.INFO, "live" + i, it -> null);
+
+        return new ArchivedToast(i, ToastTypes.values()[i % 4], "digest" + (i % 50),
+                i % 3 == 0 ? null : "title" + i, "content" + (i % 50), PARAMETER, null);
+    }
+
+    @Test
+    public void addAndRemove() {
+
+        ColumnarToastList list = new ColumnarToastList();
+        List<Toast> expected = new LinkedList<>();
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 3000; i++) {
+
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+
+                int index = random.nextInt(expected.size() + 1);
+                Toast toast = newToast(i);
+
+                list.add(index, toast);
+                expected.add(index, toast);
+
+            } else {
+
+                int index = random.nextInt(expected.size());
+
+                Assert.assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        Assert.assertEquals(expected, list);
+    }
+
+    @Test
+    public void bulkChange() {
+
+        ColumnarToastList list = new ColumnarToastList();
+
+        List<ListChangeListener.Change<? extends Toast>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Toast>) changes::add);
+
+        List<Toast> toasts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) toasts.add(newToast(i));
+
+        list.addAll(toasts);
+        Assert.assertEquals(1, changes.size());
+
+        // 跨块移除首部
+        list.removeAll(new HashSet<>(toasts.subList(0, 5000)));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(toasts.subList(5000, 10000), list);
+
+        // 移除中间的若干段
+        List<Toast> removed = Arrays.asList(toasts.get(6000), toasts.get(6001), toasts.get(8000));
+        Assert.assertTrue(list.removeAll(removed));
+        Assert.assertEquals(3, changes.size());
+        Assert.assertEquals(4997, list.size());
+        Assert.assertFalse(list.contains(toasts.get(6001)));
+        Assert.assertEquals(toasts.get(6002), list.get(1000));
+
+        list.clear();
+        Assert.assertEquals(4, changes.size());
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void removeRows() {
+
+        ColumnarToastList list = new ColumnarToastList();
+
+        List<ListChangeListener.Change<? extends Toast>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Toast>) changes::add);
+
+        // 同一毫秒内的重复记录，基于值相等
+        Toast duplicate = new ArchivedToast(1, ToastTypes.FAIL, "same", PARAMETER, null);
+        list.addAll(Arrays.asList(duplicate, new ArchivedToast(1, ToastTypes.FAIL, "same", PARAMETER, null),
+                newToast(2), newToast(3)));
+
+        BitSet rows = new BitSet();
+        rows.set(0);
+        rows.set(2);
+
+        // 按位置移除，不会波及相等的记录
+        Assert.assertTrue(list.removeRows(rows));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(Arrays.asList(duplicate, newToast(3)), list);
+
+        Assert.assertFalse(list.removeRows(new BitSet()));
+    }
+
+    @Test
+    public void releaseContext() {
+
+        ColumnarToastList list = new ColumnarToastList();
+
+        // 每次推送一个参数，总数超出上下文字典的容量
+        for (int i = 0; i < 70000; i++) {
+
+            ToastParameter parameter = ToastParameter.builder().build();
+            Toast toast = new ArchivedToast(i, ToastTypes.INFO, "digest", null, null, parameter, null);
+
+            list.add(toast);
+
+            // 按列存储时，读出的为新视图
+            Assert.assertNotSame(toast, list.get(list.size() - 1));
+            Assert.assertSame(parameter, ((ArchivedToast) list.get(list.size() - 1)).getParameter());
+
+            if (list.size() > 100) list.remove(i % 2 == 0 ? 0 : 50);
+        }
+
+        Assert.assertEquals(100, list.getContextSize());
+
+        list.set(0, newToast(1));
+        Assert.assertEquals(100, list.getContextSize());
+
+        list.clear();
+        Assert.assertEquals(0, list.getContextSize());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get() {
+        new ColumnarToastList().get(0);
+    }
+}
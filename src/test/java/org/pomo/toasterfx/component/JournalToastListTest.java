@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.ListChangeListener;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+import org.pomo.toasterfx.model.scalable.DigestSupport;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class JournalToastListTest {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ToastJournal journal;
+
+    @Before
+    public void before() {
+
+        this.journal = new ToastJournal(this.folder.getRoot().toPath());
+        this.journal.setParameter(PARAMETER);
+        this.journal.initialize();
+    }
+
+    @After
+    public void after() {
+        this.journal.destroy();
+    }
+
+    private static List<String> digests(List<Toast> toasts) {
+        return toasts.stream().map(it -> ((DigestSupport) it).getDigest()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void addAndRemove() {
+
+        JournalToastList list = new JournalToastList(this.journal);
+        List<String> expected = new LinkedList<>();
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 3000; i++) {
+
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+
+                SingleToast toast = new SingleToast(PARAMETER, ToastTypes.INFO, "digest" + i, it -> null)
+                        .setTitle("title" + i)
+                        .setContent("content" + i);
+
+                list.add(toast);
+                expected.add("digest" + i);
+
+            } else {
+
+                int index = random.nextBoolean() ? 0 : random.nextInt(expected.size());
+
+                Assert.assertEquals(expected.remove(index), ((DigestSupport) list.remove(index)).getDigest());
+            }
+
+            Assert.assertEquals(expected.size(), list.size());
+        }
+
+        Assert.assertEquals(expected, digests(list));
+
+        // 重新打开后，顺序不变
+        Assert.assertEquals(expected, digests(new JournalToastList(this.journal)));
+
+        Toast toast = list.get(expected.size() / 2);
+
+        Assert.assertEquals(expected.size() / 2, list.indexOf(toast));
+        Assert.assertTrue(list.contains(this.journal.read(this.journal.getHead())));
+    }
+
+    @Test
+    public void bulkChange() {
+
+        JournalToastList list = new JournalToastList(this.journal);
+
+        for (int i = 0; i < 100; i++)
+            list.add(new SingleToast(PARAMETER, ToastTypes.WARN, "digest" + i, it -> null));
+
+        List<ListChangeListener.Change<? extends Toast>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Toast>) change -> changes.add(change));
+
+        List<Toast> removed = new ArrayList<>();
+        for (int i = 0; i < 100; i += 3) removed.add(list.get(i));
+
+        Assert.assertTrue(list.removeAll(removed));
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals(66, list.size());
+        Assert.assertEquals("digest1", ((DigestSupport) list.get(0)).getDigest());
+
+        // 按位置移除首行与第三行
+        BitSet rows = new BitSet();
+        rows.set(0);
+        rows.set(2);
+
+        Assert.assertTrue(list.removeRows(rows));
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(64, list.size());
+        Assert.assertEquals(Arrays.asList("digest2", "digest5"), digests(list.subList(0, 2)));
+
+        list.clear();
+
+        Assert.assertEquals(3, changes.size());
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(0, new JournalToastList(this.journal).size());
+    }
+
+    @Test
+    public void removeRows() {
+
+        JournalToastList list = new JournalToastList(this.journal);
+        List<String> expected = new ArrayList<>();
+
+        List<ListChangeListener.Change<? extends Toast>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Toast>) change -> changes.add(change));
+
+        Random random = new Random(13);
+
+        for (int i = 0; i < 200; i++) {
+
+            for (int j = 0; j < 50; j++) {
+
+                String digest = "digest" + (i * 50 + j);
+
+                list.add(new SingleToast(PARAMETER, ToastTypes.INFO, digest, it -> null));
+                expected.add(digest);
+            }
+
+            // 首部淘汰 与 中部散列删除 交替
+            BitSet rows = new BitSet();
+
+            if (random.nextBoolean()) rows.set(0, random.nextInt(40) + 1);
+            else for (int j = 0; j < 20; j++) rows.set(random.nextInt(expected.size()));
+
+            changes.clear();
+
+            Assert.assertTrue(list.removeRows(rows));
+            Assert.assertEquals(1, changes.size());
+
+            for (int row = rows.length() - 1; row >= 0; row = rows.previousSetBit(row - 1)) expected.remove(row);
+
+            Assert.assertEquals(expected.size(), list.size());
+        }
+
+        Assert.assertEquals(expected, digests(list));
+
+        // 重新打开后，顺序不变
+        Assert.assertEquals(expected, digests(new JournalToastList(this.journal)));
+    }
+}
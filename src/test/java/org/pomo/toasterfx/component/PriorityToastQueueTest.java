@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PriorityToastQueueTest {
+
+    private static Toast newToast(ToastTypes type) {
+        return new SingleToast(ToastParameter.builder().build(), type, type.name(), it -> null);
+    }
+
+    @Test
+    public void severityFirst() {
+
+        PriorityToastQueue queue = new PriorityToastQueue(4);
+
+        Toast info = newToast(ToastTypes.INFO);
+        Toast fail = newToast(ToastTypes.FAIL);
+        Toast success = newToast(ToastTypes.SUCCESS);
+        Toast warn = newToast(ToastTypes.WARN);
+
+        queue.addAll(Arrays.asList(info, fail, success, warn));
+
+        Assert.assertEquals(4, queue.size());
+        Assert.assertSame(fail, queue.peek());
+
+        List<Toast> drained = new ArrayList<>();
+        Assert.assertEquals(4, queue.drainTo(drained));
+        Assert.assertEquals(Arrays.asList(fail, warn, info, success), drained);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void laneOverflow() {
+
+        List<Toast> archived = new ArrayList<>();
+
+        PriorityToastQueue queue = new PriorityToastQueue(2);
+        queue.setOnOverflow(archived::add);
+
+        Toast fail = newToast(ToastTypes.FAIL);
+        Toast info0 = newToast(ToastTypes.INFO);
+        Toast info1 = newToast(ToastTypes.INFO);
+        Toast info2 = newToast(ToastTypes.INFO);
+
+        queue.addAll(Arrays.asList(fail, info0, info1, info2));
+
+        // 更低的通道为空时，移出同一通道最旧的，FAIL不受影响
+        Assert.assertEquals(Arrays.asList(info0, info1), archived);
+        Assert.assertEquals(0, queue.remainingCapacity());
+        Assert.assertSame(fail, queue.poll());
+        Assert.assertSame(info2, queue.poll());
+        Assert.assertNull(queue.poll());
+        Assert.assertEquals(2, queue.remainingCapacity());
+    }
+
+    @Test
+    public void lowestPriorityFirst() {
+
+        List<Toast> archived = new ArrayList<>();
+
+        PriorityToastQueue queue = new PriorityToastQueue(3);
+        queue.setOnOverflow(archived::add);
+
+        Toast info = newToast(ToastTypes.INFO);
+        Toast fail0 = newToast(ToastTypes.FAIL);
+        Toast fail1 = newToast(ToastTypes.FAIL);
+        Toast fail2 = newToast(ToastTypes.FAIL);
+        Toast fail3 = newToast(ToastTypes.FAIL);
+
+        queue.addAll(Arrays.asList(info, fail0, fail1));
+
+        // 已满，FAIL入队时，优先归档INFO
+        queue.offer(fail2);
+        Assert.assertEquals(Arrays.asList(info), archived);
+
+        // 更低的通道已空，移出FAIL通道中最旧的
+        queue.offer(fail3);
+        Assert.assertEquals(Arrays.asList(info, fail0), archived);
+
+        // 其余均为更高优先级时，归档入队的消息体自身
+        Toast success = newToast(ToastTypes.SUCCESS);
+        queue.offer(success);
+        Assert.assertEquals(Arrays.asList(info, fail0, success), archived);
+
+        List<Toast> drained = new ArrayList<>();
+        Assert.assertEquals(3, queue.drainTo(drained));
+        Assert.assertEquals(Arrays.asList(fail1, fail2, fail3), drained);
+        Assert.assertEquals(3, queue.remainingCapacity());
+    }
+}
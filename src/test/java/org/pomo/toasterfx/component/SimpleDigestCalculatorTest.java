@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class SimpleDigestCalculatorTest {
+
+    /**
+     * 原实现，作为对照
+     */
+    private static String expected(Integer len, String delimiter, String ellipsis, String... contents) {
+
+        String digest = Arrays.stream(contents)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(delimiter))
+                .replace("\n", delimiter);
+
+        if (len != null && digest.length() > len)
+            digest = digest.substring(0, len) + ellipsis;
+
+        return digest;
+    }
+
+    @Test
+    public void calculate() {
+
+        SimpleDigestCalculator calculator = new SimpleDigestCalculator();
+
+        Assert.assertEquals("title\tline1\tline2", calculator.apply("title", "line1\nline2"));
+        Assert.assertEquals("content", calculator.apply(null, "content"));
+        Assert.assertEquals("", calculator.apply(null, null));
+
+        SimpleDigestCalculator limited = new SimpleDigestCalculator(5, " | ", "~");
+
+        Assert.assertEquals("ab | ~", limited.apply("ab", "cdef"));
+        Assert.assertEquals("abcde", limited.apply("abcde", null));
+        Assert.assertEquals("abcde~", limited.apply("abcdef", null));
+        Assert.assertEquals("", new SimpleDigestCalculator(0, " ", "...").apply("", null));
+        Assert.assertEquals("...", new SimpleDigestCalculator(0, " ", "...").apply("a", null));
+    }
+
+    @Test
+    public void equivalence() {
+
+        Random random = new Random(42);
+
+        String[] delimiters = {"\t", " ", "\n", "-\n-", ""};
+        char[] alphabet = {'a', 'b', '\n', ' '};
+
+        for (int i = 0; i < 10000; i++) {
+
+            String delimiter = delimiters[random.nextInt(delimiters.length)];
+            Integer len = random.nextInt(4) == 0 ? null : random.nextInt(20);
+
+            String[] contents = new String[2];
+            for (int j = 0; j < contents.length; j++) {
+
+                if (random.nextInt(5) == 0) continue;
+
+                char[] chars = new char[random.nextInt(15)];
+                for (int k = 0; k < chars.length; k++) chars[k] = alphabet[random.nextInt(alphabet.length)];
+
+                contents[j] = new String(chars);
+            }
+
+            String actual = new SimpleDigestCalculator(len, delimiter, "...").apply(contents[0], contents[1]);
+
+            Assert.assertEquals(expected(len, delimiter, "...", contents), actual);
+        }
+    }
+
+    @Test
+    public void largeContent() {
+
+        char[] chars = new char[1 << 20];
+        Arrays.fill(chars, 'x');
+        String content = new String(chars);
+
+        Assert.assertEquals("title\txxx...", new SimpleDigestCalculator(9, "\t", "...").apply("title", content));
+
+        // 超大的缓冲区不予保留，后续计算不受影响
+        Assert.assertEquals(content.length() + 6, new SimpleDigestCalculator().apply("title", content).length());
+        Assert.assertEquals("a\tb", new SimpleDigestCalculator().apply("a", "b"));
+    }
+}
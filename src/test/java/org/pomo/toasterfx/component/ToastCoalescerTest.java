@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.embed.swing.JFXPanel;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.ToastState;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+import org.testfx.api.FxToolkit;
+
+import java.util.concurrent.TimeoutException;
+
+public class ToastCoalescerTest {
+
+    private static SingleToast newToast(ToastTypes type, String digest) {
+        return new SingleToast(ToastParameter.builder().build(), type, digest, it -> null);
+    }
+
+    @Test
+    public void coalesce() throws TimeoutException {
+        new JFXPanel();
+
+        ToastCoalescer coalescer = new ToastCoalescer();
+
+        SingleToast first = newToast(ToastTypes.FAIL, "backend down");
+
+        Assert.assertFalse(coalescer.coalesce(first));
+        Assert.assertTrue(coalescer.coalesce(newToast(ToastTypes.FAIL, "backend down")));
+        Assert.assertTrue(coalescer.coalesce(newToast(ToastTypes.FAIL, "backend down")));
+
+        // 类型 或 摘要不同时，不合并
+        Assert.assertFalse(coalescer.coalesce(newToast(ToastTypes.INFO, "backend down")));
+        Assert.assertFalse(coalescer.coalesce(newToast(ToastTypes.FAIL, "backend up")));
+
+        FxToolkit.setupFixture(() -> Assert.assertEquals(3, first.getOccurrenceProperty().get()));
+
+        // 存活的消息体被关闭后，重新展示
+        FxToolkit.setupFixture(() -> {
+            first.setToastState(ToastState.SHOWING);
+            first.setToastState(ToastState.SHOWN);
+            first.setToastState(ToastState.CLOSING);
+        });
+
+        Assert.assertFalse(coalescer.coalesce(newToast(ToastTypes.FAIL, "backend down")));
+        Assert.assertEquals(3, coalescer.size());
+    }
+
+    @Test
+    public void archive() throws TimeoutException {
+        new JFXPanel();
+
+        ToastCoalescer coalescer = new ToastCoalescer();
+
+        SingleToast first = newToast(ToastTypes.WARN, "disk almost full");
+
+        Assert.assertFalse(coalescer.coalesce(first));
+        Assert.assertTrue(coalescer.coalesce(newToast(ToastTypes.WARN, "disk almost full")));
+
+        // 存活的消息体被归档后，移除出现记录，重新展示
+        FxToolkit.setupFixture(() -> {
+            first.setToastState(ToastState.SHOWING);
+            first.setToastState(ToastState.SHOWN);
+            first.setToastState(ToastState.ARCHIVING);
+            first.setToastState(ToastState.ARCHIVE);
+        });
+
+        Assert.assertEquals(0, coalescer.size());
+
+        SingleToast second = newToast(ToastTypes.WARN, "disk almost full");
+        Assert.assertFalse(coalescer.coalesce(second));
+        Assert.assertTrue(coalescer.coalesce(newToast(ToastTypes.WARN, "disk almost full")));
+
+        FxToolkit.setupFixture(() -> {
+            Assert.assertEquals(2, first.getOccurrenceProperty().get());
+            Assert.assertEquals(2, second.getOccurrenceProperty().get());
+        });
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.JournaledToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public class ToastJournalTest {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ToastJournal open(Path directory) {
+
+        ToastJournal journal = new ToastJournal(directory);
+        journal.setSegmentSize(4096);
+        journal.setParameter(PARAMETER);
+        journal.initialize();
+
+        return journal;
+    }
+
+    private static String content(int i) {
+
+        StringBuilder builder = new StringBuilder("内容" + i);
+        for (int j = 0; j < i % 40; j++) builder.append('x');
+
+        return builder.toString();
+    }
+
+    @Test
+    public void appendAndRead() throws IOException {
+
+        ToastJournal journal = this.open(this.folder.getRoot().toPath());
+
+        for (int i = 0; i < 2000; i++)
+            Assert.assertEquals(i, journal.append(i, ToastTypes.values()[i % 4], "digest" + i,
+                    i % 3 == 0 ? null : "title" + i, content(i)));
+
+        // 小数据段，已多次滚动
+        try (Stream<Path> files = Files.list(this.folder.getRoot().toPath())) {
+            Assert.assertTrue(files.filter(it -> it.toString().endsWith(".seg")).count() > 10);
+        }
+
+        for (int i = 0; i < 2000; i += 7) {
+
+            JournaledToast toast = journal.read(i);
+
+            Assert.assertEquals(i, toast.getRow());
+            Assert.assertEquals(i, toast.getCreateTime());
+            Assert.assertSame(ToastTypes.values()[i % 4], toast.getType());
+            Assert.assertEquals("digest" + i, toast.getDigest());
+            Assert.assertEquals(i % 3 == 0 ? null : "title" + i, toast.getTitle());
+            Assert.assertEquals(content(i), toast.getContent());
+            Assert.assertSame(PARAMETER, toast.getParameter());
+        }
+
+        journal.destroy();
+    }
+
+    @Test
+    public void reopen() {
+
+        Path directory = this.folder.getRoot().toPath();
+
+        ToastJournal journal = this.open(directory);
+
+        for (int i = 0; i < 500; i++) journal.append(i, ToastTypes.INFO, "digest" + i, null, content(i));
+
+        journal.remove(0);
+        journal.remove(2);
+        journal.remove(1);// 首行跳过已删除的2
+        journal.remove(10);
+        journal.remove(3, 4, 30);// 批量删除，首行一次前移
+
+        journal.destroy();
+
+        journal = this.open(directory);
+
+        Assert.assertEquals(500, journal.size());
+        Assert.assertEquals(5, journal.getHead());
+        Assert.assertArrayEquals(new long[]{10, 30}, journal.removedRows());
+        Assert.assertEquals("digest499", journal.read(499).getDigest());
+
+        // 继续追加在原位置之后
+        Assert.assertEquals(500, journal.append(500, ToastTypes.WARN, "digest500", "title", "content"));
+        Assert.assertEquals("digest499", journal.read(499).getDigest());
+        Assert.assertEquals("content", journal.read(500).getContent());
+
+        journal.destroy();
+    }
+
+    @Test
+    public void reclaim() throws IOException {
+
+        Path directory = this.folder.getRoot().toPath();
+
+        ToastJournal journal = this.open(directory);
+
+        // 超出一个索引块
+        for (int i = 0; i < 70000; i++) journal.append(i, ToastTypes.INFO, "d" + i, null, null);
+
+        journal.clear();
+
+        long row = journal.append(70000, ToastTypes.FAIL, "last", null, null);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(3, files.count());// 元数据、一个索引块、一个数据段
+        }
+
+        Assert.assertEquals("last", journal.read(row).getDigest());
+
+        journal.destroy();
+
+        journal = this.open(directory);
+
+        Assert.assertEquals(70001, journal.size());
+        Assert.assertEquals(70000, journal.getHead());
+        Assert.assertEquals("last", journal.read(70000).getDigest());
+
+        journal.destroy();
+    }
+
+    @Test
+    public void leftoverFiles() throws IOException {
+
+        Path directory = this.folder.getRoot().toPath();
+
+        ToastJournal journal = this.open(directory);
+
+        for (int i = 0; i < 70000; i++) journal.append(i, ToastTypes.INFO, "d" + i, null, null);
+
+        journal.clear();
+        journal.append(70000, ToastTypes.FAIL, "last", null, null);
+        journal.destroy();
+
+        // 模拟此前回收时未能删除的文件：数据段的编号已中断，索引块的编号仍连续
+        Path leftoverIndex = directory.resolve("00000000.idx");
+        Path leftoverSegment = directory.resolve("00000000.seg");
+        Files.write(leftoverIndex, new byte[8]);
+        Files.write(leftoverSegment, new byte[8]);
+
+        journal = this.open(directory);
+
+        Assert.assertEquals(70001, journal.size());
+        Assert.assertEquals("last", journal.read(70000).getDigest());
+        Assert.assertFalse(Files.exists(leftoverSegment));
+
+        // 编号连续的，在下次回收时删除
+        journal.append(70001, ToastTypes.INFO, "next", null, null);
+
+        Assert.assertFalse(Files.exists(leftoverIndex));
+
+        journal.destroy();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingHeadFile() throws IOException {
+
+        Path directory = this.folder.getRoot().toPath();
+
+        ToastJournal journal = this.open(directory);
+
+        for (int i = 0; i < 500; i++) journal.append(i, ToastTypes.INFO, "d" + i, null, content(i));
+
+        journal.destroy();
+
+        // 首行所在的数据段缺失，不可视为残留
+        Files.delete(directory.resolve("00000000.seg"));
+
+        this.open(directory);
+    }
+}
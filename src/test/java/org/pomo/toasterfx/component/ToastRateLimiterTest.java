@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+public class ToastRateLimiterTest {
+
+    private static Toast newToast(ToastTypes type, String source) {
+        return new SingleToast(ToastParameter.builder().source(source).build(), type, "digest", it -> null);
+    }
+
+    @Test
+    public void type() {
+
+        ToastRateLimiter limiter = new ToastRateLimiter().setRate(ToastTypes.INFO, 0.001, 5);
+
+        for (int i = 0; i < 5; i++) Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.INFO, null)));
+
+        Assert.assertFalse(limiter.tryAcquire(newToast(ToastTypes.INFO, null)));
+
+        // 未配置速率的类型，不受限制
+        for (int i = 0; i < 100; i++) Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, null)));
+    }
+
+    @Test
+    public void source() {
+
+        ToastRateLimiter limiter = new ToastRateLimiter()
+                .setDefaultSourceRate(0.001, 2)
+                .setSourceRate("important", 0.001, 3);
+
+        for (int i = 0; i < 2; i++) Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, "a")));
+        Assert.assertFalse(limiter.tryAcquire(newToast(ToastTypes.FAIL, "a")));
+
+        // 每个来源各自计算
+        Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, "b")));
+
+        for (int i = 0; i < 3; i++) Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, "important")));
+        Assert.assertFalse(limiter.tryAcquire(newToast(ToastTypes.FAIL, "important")));
+
+        // 无来源时，只按类型限流
+        Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, null)));
+    }
+
+    @Test
+    public void idleSource() {
+
+        ToastRateLimiter limiter = new ToastRateLimiter().setDefaultSourceRate(1_000_000_000, 1);
+
+        for (int i = 0; i < 10_000; i++)
+            Assert.assertTrue(limiter.tryAcquire(newToast(ToastTypes.FAIL, "request-" + i)));
+
+        // 空闲的来源限流桶会被清理，不会随来源数量无限增长
+        Assert.assertTrue(limiter.getSourceBucketSize() < 1_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rate() {
+        new ToastRateLimiter().setRate(ToastTypes.INFO, 0, 1);
+    }
+}
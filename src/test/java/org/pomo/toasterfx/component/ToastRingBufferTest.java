@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.OverflowPolicy;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.SingleToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+public class ToastRingBufferTest {
+
+    private static Toast newToast(int i) {
+        return new SingleToast(ToastParameter.builder().build(), ToastTypes.INFO, "toast-" + i, it -> null);
+    }
+
+    @Test
+    public void capacity() {
+        Assert.assertEquals(8, new ToastRingBuffer(5).getCapacity());
+        Assert.assertEquals(2, new ToastRingBuffer(1).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor() {
+        new ToastRingBuffer(0);
+    }
+
+    @Test
+    public void fifo() {
+
+        ToastRingBuffer buffer = new ToastRingBuffer(4);
+
+        List<Toast> toasts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) toasts.add(newToast(i));
+
+        Assert.assertTrue(buffer.addAll(toasts));
+        Assert.assertEquals(4, buffer.size());
+        Assert.assertEquals(0, buffer.remainingCapacity());
+        Assert.assertSame(toasts.get(0), buffer.peek());
+
+        List<Toast> drained = new ArrayList<>();
+        Assert.assertEquals(4, buffer.drainTo(drained));
+        Assert.assertEquals(toasts, drained);
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+    }
+
+    @Test
+    public void dropOldestToArchive() {
+
+        List<Toast> archived = new ArrayList<>();
+
+        ToastRingBuffer buffer = new ToastRingBuffer(2, OverflowPolicy.DROP_OLDEST_TO_ARCHIVE);
+        buffer.setOnOverflow(archived::add);
+
+        Toast first = newToast(0);
+        Toast second = newToast(1);
+        Toast third = newToast(2);
+
+        Assert.assertTrue(buffer.offer(first));
+        Assert.assertTrue(buffer.offer(second));
+        Assert.assertTrue(buffer.offer(third));
+
+        Assert.assertEquals(1, archived.size());
+        Assert.assertSame(first, archived.get(0));
+        Assert.assertSame(second, buffer.poll());
+        Assert.assertSame(third, buffer.poll());
+    }
+
+    @Test
+    public void dropNewest() {
+
+        ToastRingBuffer buffer = new ToastRingBuffer(2, OverflowPolicy.DROP_NEWEST);
+
+        Toast first = newToast(0);
+
+        Assert.assertTrue(buffer.offer(first));
+        Assert.assertTrue(buffer.offer(newToast(1)));
+        Assert.assertFalse(buffer.offer(newToast(1)));
+        Assert.assertSame(first, buffer.poll());
+    }
+
+    @Test
+    public void block() throws InterruptedException, ExecutionException, TimeoutException {
+
+        ToastRingBuffer buffer = new ToastRingBuffer(2, OverflowPolicy.BLOCK);
+        buffer.offer(newToast(0));
+        buffer.offer(newToast(1));
+
+        Assert.assertFalse(buffer.offer(newToast(1), 10, TimeUnit.MILLISECONDS));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+
+            Toast toast = newToast(2);
+            Future<Boolean> future = executor.submit(() -> buffer.offer(toast));
+
+            Assert.assertNotNull(buffer.take());
+            Assert.assertTrue(future.get(5, TimeUnit.SECONDS));
+            Assert.assertNotNull(buffer.take());
+            Assert.assertSame(toast, buffer.poll(5, TimeUnit.SECONDS));
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void multiProducer() throws InterruptedException {
+
+        int producers = 8;
+        int count = 10_000;
+
+        ToastRingBuffer buffer = new ToastRingBuffer(64, OverflowPolicy.BLOCK);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        try {
+
+            for (int p = 0; p < producers; p++) {
+
+                executor.execute(() -> {
+                    for (int i = 0; i < count; i++) buffer.offer(newToast(i));
+                });
+            }
+
+            Set<Toast> received = ConcurrentHashMap.newKeySet();
+
+            for (int i = 0; i < producers * count; i++) {
+
+                Toast toast = buffer.poll(5, TimeUnit.SECONDS);
+
+                Assert.assertNotNull(toast);
+                received.add(toast);
+            }
+
+            Assert.assertEquals(producers * count, received.size());
+            Assert.assertTrue(buffer.isEmpty());
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
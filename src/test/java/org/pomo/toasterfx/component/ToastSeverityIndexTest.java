@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.component;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pomo.toasterfx.model.Toast;
+import org.pomo.toasterfx.model.ToastParameter;
+import org.pomo.toasterfx.model.impl.ArchivedToast;
+import org.pomo.toasterfx.model.impl.ToastTypes;
+
+import java.util.*;
+
+public class ToastSeverityIndexTest {
+
+    private static final ToastParameter PARAMETER = ToastParameter.builder().build();
+
+    private static Toast newToast(int i, ToastTypes type) {
+        return new ArchivedToast(i, type, "digest" + i, null, null, PARAMETER, null);
+    }
+
+    /**
+     * 稳定排序后的前count行
+     */
+    private static BitSet expectedLowest(List<Toast> toasts, int count) {
+
+        Integer[] rows = new Integer[toasts.size()];
+        for (int i = 0; i < rows.length; i++) rows[i] = i;
+        Arrays.sort(rows, Comparator.comparingInt(it -> toasts.get(it).getType().getSeverity()));
+
+        BitSet expected = new BitSet();
+        for (int i = 0; i < Math.min(count, rows.length); i++) expected.set(rows[i]);
+
+        return expected;
+    }
+
+    @Test
+    public void lowest() {
+
+        ColumnarToastList list = new ColumnarToastList();
+
+        for (int i = 0; i < 10; i++) list.add(newToast(i, ToastTypes.FAIL));
+
+        ToastSeverityIndex index = new ToastSeverityIndex();
+        index.attach(list);
+
+        Assert.assertTrue(index.isAttached(list));
+        Assert.assertEquals(10, index.count(ToastTypes.FAIL.getSeverity()));
+
+        list.addAll(newToast(10, ToastTypes.INFO), newToast(11, ToastTypes.WARN), newToast(12, ToastTypes.INFO));
+
+        BitSet rows = index.lowest(3);
+
+        Assert.assertEquals(expectedLowest(list, 3), rows);
+
+        list.removeRows(rows);
+
+        Assert.assertEquals(0, index.count(ToastTypes.INFO.getSeverity()));
+        Assert.assertEquals(0, index.count(ToastTypes.WARN.getSeverity()));
+        Assert.assertEquals(10, list.size());
+
+        list.clear();
+
+        Assert.assertEquals(0, index.count(ToastTypes.FAIL.getSeverity()));
+
+        index.detach();
+
+        Assert.assertFalse(index.isAttached(list));
+    }
+
+    @Test
+    public void random() {
+
+        ObservableList<Toast> list = FXCollections.observableArrayList();
+
+        ToastSeverityIndex index = new ToastSeverityIndex();
+        index.attach(list);
+
+        Random random = new Random(11);
+
+        for (int i = 0; i < 5000; i++) {
+
+            int op = random.nextInt(10);
+
+            if (op < 6) {
+
+                // 多数追加于末尾，偶尔插入中间
+                int at = random.nextInt(8) == 0 ? random.nextInt(list.size() + 1) : list.size();
+                list.add(at, newToast(i, ToastTypes.values()[random.nextInt(4)]));
+
+            } else if (op < 8 && !list.isEmpty()) {
+
+                list.remove(random.nextInt(list.size()));
+
+            } else if (op == 8 && !list.isEmpty()) {
+
+                list.set(random.nextInt(list.size()), newToast(i, ToastTypes.values()[random.nextInt(4)]));
+
+            } else if (!list.isEmpty()) {
+
+                int count = random.nextInt(list.size()) + 1;
+
+                BitSet rows = index.lowest(count);
+
+                Assert.assertEquals(expectedLowest(list, count), rows);
+
+                for (int row = rows.length() - 1; row >= 0; row = rows.previousSetBit(row - 1)) list.remove(row);
+            }
+
+            for (int severity = 0; severity < 4; severity++) {
+
+                int it = severity;
+                Assert.assertEquals(list.stream().filter(toast -> toast.getType().getSeverity() == it).count(),
+                        index.count(severity));
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2020 Mr.Po (ldd_live@foxmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.pomo.toasterfx.strategy.impl;
+
+import javafx.geometry.Rectangle2D;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.pomo.toasterfx.strategy.impl.AbstractVerticalPopupStrategy.VerticalLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>垂直弹出策略 锚点计算 基准测试</h2>
+ *
+ * <p>对比 逐个求后缀和（原实现） 与 AbstractVerticalPopupStrategy.layout（现实现），在 5、50、500 个可见消息者下的耗时</p>
+ * <p>完整的adjust依赖真实的弹窗，此处以高度代替消息者，驱动adjust所使用的同一layout</p>
+ * <p>可见边界足够高，不会触发越界归档</p>
+ * <p>layout 为包内可见，故此基准测试位于策略实现所在的包中</p>
+ * <br/>
+ *
+ * <p>创建时间：2026-10-18 12:15:27</p>
+ * <p>更新时间：2026-10-18 21:13:40</p>
+ *
+ * @author Mr.Po
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerticalAnchorBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int size;
+
+    private final Rectangle2D visualBounds = new Rectangle2D(0, 0, 3840, 200_000);
+
+    private final double fixY = 10;
+
+    private List<Double> heights;
+
+    private Blackhole blackhole;
+
+    /**
+     * 以高度代替消息者，按右下角弹出
+     */
+    private final VerticalLayout<Double> layout = new VerticalLayout<Double>() {
+
+        @Override
+        public double getHeight(Double height) {
+            return height;
+        }
+
+        @Override
+        public double getNewAnchorY(Rectangle2D visualBounds, List<Double> heights, int index,
+                                    double suffixHeight) {
+            return visualBounds.getMaxY() - (VerticalAnchorBenchmark.this.fixY + suffixHeight);
+        }
+
+        @Override
+        public boolean isMulti(Double height) {
+            return false;
+        }
+
+        @Override
+        public boolean archive(Double height, int index) {
+            throw new IllegalStateException("visual bounds too small, index : " + index + ".");
+        }
+
+        @Override
+        public void place(Rectangle2D visualBounds, List<Double> heights, int index, double newAnchorY) {
+            VerticalAnchorBenchmark.this.blackhole.consume(newAnchorY);
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        Random random = new Random(42);
+
+        this.heights = new ArrayList<>(this.size);
+
+        for (int i = 0; i < this.size; i++) this.heights.add(60 + random.nextInt(120) + 0.0);
+    }
+
+    @Benchmark
+    public void perToasterSum(Blackhole blackhole) {
+
+        for (int i = 0; i < this.heights.size(); i++) {
+
+            double anchorY = this.visualBounds.getMaxY() - (this.fixY
+                    + this.heights.stream().skip(i).mapToDouble(Double::doubleValue).sum());
+
+            blackhole.consume(anchorY);
+        }
+    }
+
+    @Benchmark
+    public boolean layout(Blackhole blackhole) {
+
+        this.blackhole = blackhole;
+
+        return AbstractVerticalPopupStrategy.layout(this.visualBounds, this.heights, this.layout);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VerticalAnchorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
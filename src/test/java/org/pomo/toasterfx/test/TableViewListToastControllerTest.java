@@ -69,6 +69,7 @@ public class TableViewListToastControllerTest extends ApplicationTest {
 
         for (int i = 0; i < 20; i++) {
             SingleToast toast = service.born("a" + i, "b" + i, ToastTypes.FAIL);
+            toast.setToastState(ToastState.ARCHIVING);
             toast.setToastState(ToastState.ARCHIVE);
             listToast.getToasts().add(toast);
         }
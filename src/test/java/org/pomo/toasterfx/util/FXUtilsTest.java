@@ -15,9 +15,11 @@
  */
 package org.pomo.toasterfx.util;
 
+import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
 import javafx.fxml.LoadException;
 import javafx.scene.Node;
+import javafx.util.Duration;
 import org.junit.Assert;
 import org.junit.Test;
 import org.pomo.toasterfx.common.Destroyable;
@@ -26,8 +28,12 @@ import org.testfx.api.FxToolkit;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 public class FXUtilsTest {
@@ -125,4 +131,30 @@ public class FXUtilsTest {
     public void run02() {
         FXUtils.run(null, Destroyable.class, null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void pulseExecutor() throws Exception {
+        new JFXPanel();
+
+        FXPulseExecutor executor = new FXPulseExecutor();
+        executor.setBudget(Duration.millis(1));
+
+        List<Integer> list = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            executor.execute(() -> list.add(value));
+        }
+
+        executor.execute(() -> {
+            throw new UnsupportedOperationException();
+        });
+
+        CompletableFuture<Boolean> future = executor.submit(Platform::isFxApplicationThread);
+
+        Assert.assertTrue(future.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1000, list.size());
+        Assert.assertEquals(999, (int) list.get(999));
+        Assert.assertEquals(0, executor.getPendingSize());
+    }
+}